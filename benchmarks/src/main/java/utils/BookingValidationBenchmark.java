@@ -0,0 +1,77 @@
+package utils;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import pages.FlightBookingPage;
+
+/**
+ * The booking validation helpers as the steps call them (FlightBookingPage.isEmailValid and
+ * isDateInFuture), and BookingRules.evaluate over every row of the booking sheet. The page gets a
+ * driver stub that is never used by these helpers, so no browser is started.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-DlogLevel=WARN")
+public class BookingValidationBenchmark {
+
+    private static final String WORKBOOK = "../" + TestRows.WORKBOOK;
+
+    private FlightBookingPage page;
+    private List<BookingRow> rows;
+
+    @Setup
+    public void setUp() {
+        WebDriver stub = (WebDriver) Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class<?>[] {WebDriver.class, JavascriptExecutor.class}, (proxy, method, args) -> null);
+        page = new FlightBookingPage(stub);
+
+        RowTable<BookingRow> table = BookingRow.bind(TestDataStore.getSheet(WORKBOOK, TestRows.BOOKING_SHEET));
+        rows = new ArrayList<>();
+        for (int rowNumber : table.getRowNumbers()) {
+            rows.add(table.row(rowNumber));
+        }
+    }
+
+    @Benchmark
+    public boolean isEmailValid() {
+        return page.isEmailValid("john.doe@example.com");
+    }
+
+    @Benchmark
+    public boolean isEmailInvalid() {
+        return page.isEmailValid("john.doe@example");
+    }
+
+    @Benchmark
+    public boolean isDateInFuture() {
+        return page.isDateInFuture("20/05/2099");
+    }
+
+    // Average per sheet, not per row: divide by the number of data rows
+    @Benchmark
+    public void evaluateSheet(Blackhole blackhole) {
+        for (BookingRow row : rows) {
+            blackhole.consume(BookingRules.evaluate(row));
+        }
+    }
+}
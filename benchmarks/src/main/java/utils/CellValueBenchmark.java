@@ -0,0 +1,91 @@
+package utils;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.FormulaError;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ExcelReader.getCellValueAsString for each kind of cell the sheets contain (DATE is a date-formatted
+ * NUMERIC cell, NULL a missing cell). The cells live in an in-memory workbook, so no I/O is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-DlogLevel=WARN")
+public class CellValueBenchmark {
+
+    @Param({"STRING", "NUMERIC", "DATE", "BOOLEAN", "FORMULA", "BLANK", "ERROR", "NULL"})
+    public String kind;
+
+    private XSSFWorkbook workbook;
+    private Cell cell;
+
+    @Setup
+    public void setUp() {
+        workbook = new XSSFWorkbook();
+        Row row = workbook.createSheet("cells").createRow(0);
+        Cell target = row.createCell(0);
+        switch (kind) {
+            case "STRING":
+                target.setCellValue("Hyderabad");
+                break;
+            case "NUMERIC":
+                target.setCellValue(9876543210d);
+                break;
+            case "DATE":
+                CellStyle style = workbook.createCellStyle();
+                style.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("dd/mm/yyyy"));
+                target.setCellStyle(style);
+                target.setCellValue(LocalDate.of(2027, 5, 20));
+                break;
+            case "BOOLEAN":
+                target.setCellValue(true);
+                break;
+            case "FORMULA":
+                row.createCell(1).setCellValue(2);
+                target.setCellFormula("B1*3");
+                workbook.getCreationHelper().createFormulaEvaluator().evaluateFormulaCell(target);
+                break;
+            case "BLANK":
+                break;
+            case "ERROR":
+                target.setCellErrorValue(FormulaError.DIV0.getCode());
+                break;
+            case "NULL":
+                target = null;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown cell kind: " + kind);
+        }
+        cell = target;
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        workbook.close();
+    }
+
+    @Benchmark
+    public String getCellValueAsString() {
+        return ExcelReader.getCellValueAsString(cell);
+    }
+}
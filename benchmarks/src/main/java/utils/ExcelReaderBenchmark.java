@@ -0,0 +1,69 @@
+package utils;
+
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Test data access: a warm getCardDetails/readExcel (served from TestDataStore), the SAX streaming
+ * reader, and a cold parse of the whole workbook as the first scenario of a run pays for it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-DlogLevel=WARN")
+public class ExcelReaderBenchmark {
+
+    // Relative to the benchmarks directory, where target/benchmarks.jar is normally run from
+    @Param("../" + TestRows.WORKBOOK)
+    public String workbook;
+
+    @Param(TestRows.BOOKING_SHEET)
+    public String sheet;
+
+    private ExcelReader reader;
+
+    @Setup
+    public void setUp() {
+        reader = new ExcelReader();
+        // Parse once so the warm benchmarks measure lookups, not the first load
+        if (TestDataStore.getSheet(workbook, sheet) == null) {
+            throw new IllegalStateException("Sheet " + sheet + " not found in " + workbook);
+        }
+    }
+
+    @Benchmark
+    public Map<String, String> getCardDetails() {
+        return reader.getCardDetails(workbook, sheet, 1);
+    }
+
+    @Benchmark
+    public String readExcel() {
+        return reader.readExcel(workbook, sheet, 1, 0);
+    }
+
+    @Benchmark
+    public Map<String, String> getCardDetailsStreaming() {
+        return reader.getCardDetailsStreaming(workbook, sheet, 1);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Map<String, SheetTable> parseWorkbookCold() {
+        return TestDataStore.parseWorkbook(Paths.get(workbook));
+    }
+}
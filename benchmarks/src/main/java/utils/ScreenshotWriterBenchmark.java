@@ -0,0 +1,83 @@
+package utils;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The screenshot path behind Hooks.tearDown: ScreenshotWriter.write for a 1280x800 page capture,
+ * stored as PNG or transcoded to JPEG. write() is called directly, so the time is what the
+ * background writer thread spends per failed scenario. Files go to target/screenshots.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-DlogLevel=WARN")
+public class ScreenshotWriterBenchmark {
+
+    @Param({"png", "jpg"})
+    public String format;
+
+    private ScreenshotWriter writer;
+    private byte[] png;
+
+    @Setup
+    public void setUp() throws IOException {
+        writer = new ScreenshotWriter("jpg".equals(format), 0.7f, 1, Long.MAX_VALUE);
+        png = screenshot(1280, 800);
+    }
+
+    @TearDown
+    public void tearDown() {
+        writer.shutdown(1, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public void write() {
+        writer.write("benchmark-" + format, png);
+    }
+
+    // A page-like image: white background, a header bar, text-sized blocks and a table grid
+    private static byte[] screenshot(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.setColor(new Color(0, 70, 140));
+            graphics.fillRect(0, 0, width, 64);
+            graphics.setColor(Color.DARK_GRAY);
+            for (int y = 100; y < height - 40; y += 28) {
+                for (int x = 40; x < width - 200; x += 160) {
+                    graphics.fillRect(x, y, 40 + (x * 7 + y * 3) % 100, 10);
+                }
+                graphics.drawLine(30, y + 18, width - 30, y + 18);
+            }
+        } finally {
+            graphics.dispose();
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
@@ -1,53 +1,129 @@
 package hooks;
 
 import io.cucumber.java.After;
+import io.cucumber.java.AfterAll;
+import io.cucumber.java.AfterStep;
 import io.cucumber.java.Before;
+import io.cucumber.java.BeforeAll;
+import io.cucumber.java.BeforeStep;
 import io.cucumber.java.Scenario;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.WebDriverException;
+import pages.LoginPage;
 
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.*;
-import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import org.openqa.selenium.firefox.FirefoxDriver;
+import java.util.concurrent.TimeUnit;
+import utils.AppUrls;
+import utils.BudgetGuard;
+import utils.ConfigReader;
+import utils.DriverManager;
+import utils.DriverPool;
+import utils.FailFast;
+import utils.FixtureServer;
+import utils.Log;
+import utils.ScreenshotWriter;
+import utils.SessionCache;
+import utils.TestRows;
 
 public class Hooks {
-    public static WebDriver driver;
+    private static final Log log = Log.get(Hooks.class);
+
     private static ThreadLocal<Scenario> currentScenario = new ThreadLocal<>();
 
+    @BeforeAll
+    public static void startDriverPool() {
+        // Bind and check every Card.xlsx sheet first, so bad test data fails before a browser starts
+        TestRows.validateAll();
+
+        // baseUrl=local: serve the app pages from the embedded fixture server
+        if (AppUrls.isLocal()) {
+            FixtureServer.getInstance().start();
+        }
+        DriverPool.getInstance().warmUp(ConfigReader.getInt("driverPoolWarmUp", 1));
+    }
+
+    @AfterAll
+    public static void stopDriverPool() {
+        DriverPool.getInstance().shutdown();
+        FixtureServer.getInstance().stop();
+        // Let queued failure screenshots reach the disk before the JVM exits
+        ScreenshotWriter.getInstance().shutdown(30, TimeUnit.SECONDS);
+        Log.flush(5, TimeUnit.SECONDS);
+    }
+
     @Before
     public void setUp(Scenario scenario) {
-    	System.setProperty("webdriver.gecko.driver", "/Users/cognizant/Desktop/selenium/geckodriver"); // ✅ Update path if needed
-        driver = new FirefoxDriver();
-        //System.setProperty("webdriver.chrome.driver", "E:/chromedriver-win64/chromedriver.exe");
-        //driver = new ChromeDriver();
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
+        // failFast reached: skip without leasing a browser
+        FailFast.checkBeforeScenario(scenario.getName());
+
+        // Lease a warm browser when the first step needs one; browser-free scenarios never lease
+        DriverManager.leaseOnDemand();
         
         // Store current scenario for access from step definitions
         currentScenario.set(scenario);
-        System.out.println("🚀 Starting scenario: " + scenario.getName());
+        Log.putContext("scenario", scenario.getName());
+        log.info("🚀 Starting scenario: " + scenario.getName());
+
+        // @budget(...) tags: commands, wall time and sleeps are tracked from here on
+        BudgetGuard.scenarioStarted(scenario.getSourceTagNames());
+    }
+
+    // Runs after setUp (higher order): log in once per thread, then restore the cached session
+    @Before(value = "@authenticated", order = 20000)
+    public void restoreSession(Scenario scenario) {
+        WebDriver driver = getDriver();
+        String username = ConfigReader.get("username");
+        String password = ConfigReader.get("password");
+        LoginPage loginPage = new LoginPage(driver);
+
+        SessionCache.authenticate(driver, username, () -> {
+            driver.get(AppUrls.page("login.html"));
+            loginPage.login(username, password);
+        }, d -> loginPage.isLoggedIn());
+    }
+
+    @BeforeStep
+    public void startStepBudget() {
+        BudgetGuard.stepStarted();
+    }
+
+    // Fails the scenario on a step over its @budget (or maxCommandsPerStep)
+    @AfterStep
+    public void checkStepBudget() {
+        BudgetGuard.checkStep();
+    }
+
+    // Runs before tearDown (higher order), so releasing the browser is not charged to the scenario
+    @After(order = 20000)
+    public void checkScenarioBudget(Scenario scenario) {
+        BudgetGuard.checkScenario(scenario.getName());
     }
 
     @After
     public void tearDown(Scenario scenario) {
+        WebDriver driver = DriverManager.peekDriver();
+
         // Take screenshot only if scenario failed (this is your existing logic)
         if (scenario.isFailed() && driver instanceof TakesScreenshot) {
             takeScreenshot(scenario, "scenario_failed");
         }
+        if (scenario.isFailed()) {
+            FailFast.recordFailure(scenario.getName());
+        }
 
         // Clean up
         currentScenario.remove();
         
-        // Quit driver
+        // Return driver to the pool (it is wiped clean or recycled there)
+        DriverManager.unload();
         if (driver != null) {
-            driver.quit();
-            System.out.println("🔚 Browser closed for scenario: " + scenario.getName());
+            DriverPool.getInstance().release(driver);
+            log.info("🔚 Browser released for scenario: " + scenario.getName());
         }
+        Log.clearContext();
     }
 
     /**
@@ -56,41 +132,43 @@ public class Hooks {
      */
     public static void takeScreenshotOnStepFailure(String stepDescription) {
         Scenario scenario = currentScenario.get();
-        if (scenario != null && driver instanceof TakesScreenshot) {
+        if (scenario != null && DriverManager.peekDriver() instanceof TakesScreenshot) {
             takeScreenshot(scenario, "step_failed_" + stepDescription.replaceAll("[^a-zA-Z0-9]", "_"));
         }
     }
 
     /**
      * Generic method to take screenshot
+     * Only the capture runs on the test thread; the file is written by ScreenshotWriter in the background
      */
     private static void takeScreenshot(Scenario scenario, String prefix) {
         try {
-            TakesScreenshot ts = (TakesScreenshot) driver;
+            TakesScreenshot ts = (TakesScreenshot) DriverManager.peekDriver();
             byte[] screenshot = ts.getScreenshotAs(OutputType.BYTES);
 
             // Attach screenshot to Cucumber report
             scenario.attach(screenshot, "image/png", scenario.getName() + "_" + prefix);
 
-            // Save screenshot locally
+            // Queue the local copy (target/screenshots)
             String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-            String filename = prefix + "_" + scenario.getName().replaceAll("[^a-zA-Z0-9]", "_") + "_" + timestamp + ".png";
-            Path path = Paths.get("target", "screenshots", filename);
-            Files.createDirectories(path.getParent());
-            Files.write(path, screenshot);
-            
-            System.out.println("📸 Screenshot saved: " + filename);
-        } catch (IOException e) {
-            System.err.println("❌ Failed to save screenshot: " + e.getMessage());
-            e.printStackTrace();
+            String baseName = prefix + "_" + scenario.getName().replaceAll("[^a-zA-Z0-9]", "_") + "_" + timestamp;
+            ScreenshotWriter.getInstance().submit(baseName, screenshot);
+        } catch (WebDriverException e) {
+            log.error("❌ Failed to capture screenshot: " + e.getMessage());
         }
     }
 
     public static WebDriver getDriver() {
-        return driver;
+        return DriverManager.getDriver();
     }
 
     public static Scenario getCurrentScenario() {
         return currentScenario.get();
     }
+
+    // True when the running scenario (or its feature) carries the given tag, e.g. "@keystrokes"
+    public static boolean hasTag(String tag) {
+        Scenario scenario = currentScenario.get();
+        return scenario != null && scenario.getSourceTagNames().contains(tag);
+    }
 }
\ No newline at end of file
@@ -7,8 +7,17 @@ import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import utils.ElementCache;
+import utils.FormFiller;
+import utils.Log;
+import utils.Waits;
 
 public class EnquiryPage {
+private static final Log log = Log.get(EnquiryPage.class);
+
 WebDriver driver;
 
 @FindBy(id = "name") WebElement nameField;
@@ -25,10 +34,27 @@ WebDriver driver;
 
 public EnquiryPage(WebDriver driver) {
 this.driver = driver;
-PageFactory.initElements(driver, this);
+// @FindBy fields resolve once per page load instead of on every access
+PageFactory.initElements(new ElementCache(driver).locatorFactory(), this);
 }
 
+// Batch fill: all five fields and their events in a single script call
 public void fillForm(String name, String email, String phone, String subject, String message) {
+Map<String, String> values = new LinkedHashMap<>();
+values.put("name", name);
+values.put("email", email);
+values.put("phone", phone);
+values.put("subject", subject);
+values.put("message", message);
+
+List<String> problems = FormFiller.fill(driver, values);
+if (!problems.isEmpty()) {
+log.warn("⚠️ Enquiry form filled with problems: " + problems);
+}
+}
+
+// Keystroke-fidelity fill: real typing into each field
+public void fillFormByTyping(String name, String email, String phone, String subject, String message) {
 nameField.clear(); nameField.sendKeys(name);
 emailField.clear(); emailField.sendKeys(email);
 phoneField.clear(); phoneField.sendKeys(phone);
@@ -38,6 +64,8 @@ messageField.clear(); messageField.sendKeys(message);
 
 public void submitForm() {
 submitButton.click();
+// Error/success messages are read right after submit with no implicit wait, so let validation render first
+new Waits(driver).forDomQuiet();
 }
 
 public String getErrorMessage(String field) {
@@ -5,18 +5,35 @@ import org.openqa.selenium.support.ui.Select;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import java.time.Duration;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import utils.BookingRules;
+import utils.ElementCache;
+import utils.FormFiller;
+import utils.FormSnapshot;
+import utils.Log;
+import utils.PageText;
+import utils.WaitPolicy;
+import utils.Waits;
 
 public class FlightBookingPage {
+    private static final Log log = Log.get(FlightBookingPage.class);
+
     WebDriver driver;
     WebDriverWait wait;
+    Waits waits;
+    // Form fields and result containers are found once per page load
+    ElementCache elements;
 
     public FlightBookingPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        this.wait = new WebDriverWait(driver, WaitPolicy.explicitWait());
+        this.waits = new Waits(driver);
+        this.elements = new ElementCache(driver);
     }
 
     // Locators
@@ -35,20 +52,25 @@ public class FlightBookingPage {
     By errorContainer = By.id("errfn");
     By generalErrorMessage = By.xpath("//*[contains(text(),'Name should only contain letters')]");
     By nameErrorMessage = By.xpath("//div[@id='errfn' or @class='error-message' or contains(@class,'error')]");
-    By allErrorMessages = By.xpath("//*[contains(@style,'color:red') or contains(@class,'error') or contains(@class,'invalid')]");
+    static final String ERROR_MESSAGES_XPATH = "//*[contains(@style,'color:red') or contains(@class,'error') or contains(@class,'invalid')]";
+    By allErrorMessages = By.xpath(ERROR_MESSAGES_XPATH);
+
+    static final List<String> FORM_FIELD_IDS = Collections.unmodifiableList(Arrays.asList(
+        "travelFrom", "travelTo", "departure", "selectclass", "name", "email", "phone", "ticket-class-count"));
+    static final List<String> ERROR_CONTAINER_IDS = Collections.singletonList("errfn");
 
     // Utility: Enter text and trigger full JS event sequence
     private void enterTextWithEvents(By locator, String value) {
         try {
-            WebElement field = driver.findElement(locator);
+            WebElement field = elements.get(locator);
             field.clear();
             
             // Only enter text if value is not null or empty
             if (value != null && !value.trim().isEmpty()) {
                 field.sendKeys(value);
-                System.out.println("✅ Entered value: '" + value + "' in field: " + locator.toString());
+                log.info("✅ Entered value: '" + value + "' in field: " + locator.toString());
             } else {
-                System.out.println("⚠️ Empty value provided for field: " + locator.toString() + " - leaving field empty");
+                log.info("⚠️ Empty value provided for field: " + locator.toString() + " - leaving field empty");
             }
 
             // Trigger JS events regardless of whether we entered text
@@ -61,16 +83,51 @@ public class FlightBookingPage {
                 field
             );
 
+            // Handlers for the dispatched events run synchronously, so no pause is needed here;
+            // callers wait for the DOM to settle once after the whole form is filled
             field.sendKeys(Keys.TAB);
-
-            Thread.sleep(300);
             
         } catch (Exception e) {
-            System.out.println("❌ Error entering text in field " + locator.toString() + ": " + e.getMessage());
+            log.warn("❌ Error entering text in field " + locator.toString() + ": " + e.getMessage());
             // Don't throw exception - continue with other fields
         }
     }
 
+    // Batch fill: sets every field and fires the focus/input/change/blur events in a single script call
+    public void fillBookingForm(String origin, String destination, String date, String classType,
+                                String name, String email, String phone, String passengers) {
+        Map<String, String> values = new LinkedHashMap<>();
+        values.put("travelFrom", origin);
+        values.put("travelTo", destination);
+        values.put("departure", date);
+        values.put("selectclass", classType);
+        values.put("name", name);
+        values.put("email", email);
+        values.put("phone", phone);
+        values.put("ticket-class-count", passengers);
+
+        List<String> problems = FormFiller.fill(driver, values);
+        if (problems.isEmpty()) {
+            log.info("✅ Booking form filled in one script call");
+        } else {
+            // Same leniency as the per-field helpers: report and continue
+            log.warn("⚠️ Booking form filled with problems: " + problems);
+        }
+    }
+
+    // Keystroke-fidelity fill: types each field like a user would (one WebDriver round trip per action)
+    public void fillBookingFormByTyping(String origin, String destination, String date, String classType,
+                                        String name, String email, String phone, String passengers) {
+        enterOrigin(origin);
+        enterDestination(destination);
+        enterDate(date);
+        selectClass(classType);
+        enterName(name);
+        enterEmail(email);
+        enterPhone(phone);
+        enterNumberOfPassengers(passengers);
+    }
+
     // Input Actions
     public void enterName(String name) {
         enterTextWithEvents(nameField, name);
@@ -103,14 +160,14 @@ public class FlightBookingPage {
     public void selectClass(String classType) {
         try {
             if (classType != null && !classType.trim().isEmpty()) {
-                Select dropdown = new Select(driver.findElement(classDropdown));
+                Select dropdown = new Select(elements.get(classDropdown));
                 dropdown.selectByVisibleText(classType);
-                System.out.println("✅ Selected class: '" + classType + "'");
+                log.info("✅ Selected class: '" + classType + "'");
             } else {
-                System.out.println("⚠️ Empty class type provided - leaving dropdown as default");
+                log.info("⚠️ Empty class type provided - leaving dropdown as default");
             }
         } catch (Exception e) {
-            System.out.println("❌ Error selecting class '" + classType + "': " + e.getMessage());
+            log.warn("❌ Error selecting class '" + classType + "': " + e.getMessage());
             // Don't throw exception - continue with other fields
         }
     }
@@ -118,29 +175,27 @@ public class FlightBookingPage {
     // Submit form by triggering JS function directly
     public void submitForm() {
         try {
-            System.out.println("🔄 Using Sir's approach...");
+            log.info("🔄 Using Sir's approach...");
             
             // Wait for the button to be present
             WebElement bookNowButton = wait.until(ExpectedConditions.presenceOfElementLocated(submitButton));
             
-            // Scroll the button into view
+            // Scroll the button into view (instant scroll) and wait until it can take the click
             JavascriptExecutor js = (JavascriptExecutor) driver;
             js.executeScript("arguments[0].scrollIntoView(true);", bookNowButton);
-            
-            // Small pause to ensure scroll is complete
-            Thread.sleep(500);
+            waits.untilClickable(submitButton);
             
             // Click using JavaScript)
             js.executeScript("arguments[0].click();", bookNowButton);
-            System.out.println("✅ JavaScript click executed");
+            log.info("✅ JavaScript click executed");
             
             // Optional: Also try regular Selenium click as backup
             try {
                 WebElement formClick = driver.findElement(By.xpath("//button[@id='book-now']"));
                 formClick.click();
-                System.out.println("✅ Regular Selenium click also executed");
+                log.info("✅ Regular Selenium click also executed");
             } catch (Exception e) {
-                System.out.println("ℹ️ Regular click failed, but JS click should have worked: " + e.getMessage());
+                log.info("ℹ️ Regular click failed, but JS click should have worked: " + e.getMessage());
             }
             
             // Wait for confirmation or ticket table to appear
@@ -149,46 +204,41 @@ public class FlightBookingPage {
                     ExpectedConditions.visibilityOfElementLocated(confirmationMessage),
                     ExpectedConditions.visibilityOfElementLocated(ticketTable)
                 ));
-                System.out.println("✅ Form submission successful - results appeared");
+                log.info("✅ Form submission successful - results appeared");
             } catch (Exception e) {
-                System.out.println("⚠️ Results didn't appear immediately, but click was executed");
+                log.warn("⚠️ Results didn't appear immediately, but click was executed");
             }
             
         } catch (Exception e) {
-            System.out.println("❌ Form submission failed: " + e.getMessage());
+            log.error("❌ Form submission failed: " + e.getMessage());
             throw new RuntimeException("Unable to submit form", e);
         }
     }
 
-    // Validation helpers
+    // Validation helpers (the rules themselves live in BookingRules)
     public boolean isEmailValid(String email) {
-        String emailRegex = "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,6}$";
-        return email != null && email.matches(emailRegex);
+        return BookingRules.isEmailValid(email);
     }
 
-
     public boolean isDateInFuture(String dateStr) {
-        try {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-            LocalDate inputDate = LocalDate.parse(dateStr, formatter);
-            return inputDate.isAfter(LocalDate.now());
-        } catch (DateTimeParseException e) {
-            System.out.println("Invalid date format: " + dateStr);
-            return false;
+        boolean future = BookingRules.isDateInFuture(dateStr);
+        if (!future) {
+            log.info("Invalid or past date: " + dateStr);
         }
+        return future;
     }
 
     public String getConfirmationMessage() {
-        return driver.findElement(confirmationMessage).getText().trim();
+        return elements.get(confirmationMessage).getText().trim();
     }
 
     public boolean isTicketTableDisplayed() {
-        return driver.findElement(ticketTable).isDisplayed();
+        return elements.get(ticketTable).isDisplayed();
     }
     
     public void clickResetButton() {
         try {
-            System.out.println("🔄 Clicking Reset button...");
+            log.info("🔄 Clicking Reset button...");
             
             // Wait for the reset button to be present and clickable
             WebElement resetBtn = wait.until(ExpectedConditions.elementToBeClickable(resetButton));
@@ -196,46 +246,35 @@ public class FlightBookingPage {
             // Use sir's proven approach: scroll into view and click with JavaScript
             JavascriptExecutor js = (JavascriptExecutor) driver;
             js.executeScript("arguments[0].scrollIntoView(true);", resetBtn);
-            Thread.sleep(300);
             js.executeScript("arguments[0].click();", resetBtn);
             
-            System.out.println("✅ Reset button clicked successfully");
+            log.info("✅ Reset button clicked successfully");
             
-            // Small wait for reset to complete
-            Thread.sleep(500);
+            // Wait for the reset to clear the form instead of sleeping
+            waits.forAttribute(nameField, "value", "");
+            waits.forDomQuiet();
             
         } catch (Exception e) {
-            System.out.println("❌ Failed to click reset button: " + e.getMessage());
+            log.error("❌ Failed to click reset button: " + e.getMessage());
             throw new RuntimeException("Unable to click reset button", e);
         }
     }
 
     public boolean areAllFieldsEmpty() {
         try {
-            
-            // Check all input fields
-            String name = driver.findElement(nameField).getAttribute("value");
-            String email = driver.findElement(emailField).getAttribute("value");
-            String phone = driver.findElement(phoneField).getAttribute("value");
-            String origin = driver.findElement(originField).getAttribute("value");
-            String destination = driver.findElement(destinationField).getAttribute("value");
-            String date = driver.findElement(dateField).getAttribute("value");
-            String passengers = driver.findElement(passengerCountField).getAttribute("value");
-            
-            // Check dropdown (class selection)
-            Select classSelect = new Select(driver.findElement(classDropdown));
-            String selectedClass = classSelect.getFirstSelectedOption().getText();
-            
-            
-            
+            // One script call reads every field value and the selected class
+            FormSnapshot form = captureFormSnapshot();
+            String passengers = form.value("ticket-class-count").trim();
+            String selectedClass = form.value("selectclass");
+
             // Check if all text fields are empty (or contain only whitespace)
-            boolean allEmpty = (name == null || name.trim().isEmpty()) &&
-                              (email == null || email.trim().isEmpty()) &&
-                              (phone == null || phone.trim().isEmpty()) &&
-                              (origin == null || origin.trim().isEmpty()) &&
-                              (destination == null || destination.trim().isEmpty()) &&
-                              (date == null || date.trim().isEmpty()) &&
-                              (("0".equals(passengers.trim()) || passengers.trim().isEmpty()));
+            boolean allEmpty = form.isBlank("name") &&
+                              form.isBlank("email") &&
+                              form.isBlank("phone") &&
+                              form.isBlank("travelFrom") &&
+                              form.isBlank("travelTo") &&
+                              form.isBlank("departure") &&
+                              ("0".equals(passengers) || passengers.isEmpty());
             
             // Check if dropdown is reset to default (adjust based on your default option)
             boolean dropdownReset = selectedClass.equals("") || 
@@ -245,102 +284,96 @@ public class FlightBookingPage {
             boolean result = allEmpty && dropdownReset;
             
             if (result) {
-                System.out.println("✅ All fields are properly reset");
+                log.info("✅ All fields are properly reset");
             } else {
-                System.out.println("❌ Some fields are not reset properly");
+                log.error("❌ Some fields are not reset properly: " + form);
             }
             
             return result;
             
         } catch (Exception e) {
-            System.out.println("❌ Error checking field values: " + e.getMessage());
+            log.error("❌ Error checking field values: " + e.getMessage());
             return false;
         }
     }
+
+    // Snapshot of all booking fields, the errfn container and every visible error-styled element in one round trip
+    public FormSnapshot captureFormSnapshot() {
+        return FormSnapshot.capture(driver, FORM_FIELD_IDS, ERROR_CONTAINER_IDS, ERROR_MESSAGES_XPATH);
+    }
     
     // Add this method to detect error messages:
     	public boolean isErrorMessageDisplayed(String expectedMessage) {
     	    try {
-    	        System.out.println("🔍 Checking for error message: " + expectedMessage);
+    	        log.info("🔍 Checking for error message: " + expectedMessage);
+    	        
+    	        // Wait for validation output to finish rendering
+    	        waits.forDomQuiet();
     	        
-    	        // Wait a bit for validation to trigger
-    	        Thread.sleep(1500);
+    	        // One snapshot serves methods 1, 3 and 5; the DOM has settled, so it will not go stale
+    	        FormSnapshot form = captureFormSnapshot();
     	        
     	        // Method 1: Check the specific error container
     	        try {
-    	            WebElement errorDiv = driver.findElement(errorContainer);
-    	            String errorText = errorDiv.getText().trim();
+    	            String errorText = form.containerText("errfn");
     	            if (!errorText.isEmpty()) {
-    	                System.out.println("📋 Error container text: '" + errorText + "'");
+    	                log.debug("📋 Error container text: '" + errorText + "'");
     	                if (errorText.contains(expectedMessage)) {
-    	                    System.out.println("✅ Found expected message in error container");
+    	                    log.info("✅ Found expected message in error container");
     	                    return true;
     	                }
     	            }
     	        } catch (Exception e) {
-    	            System.out.println("ℹ️ Error container not found or empty");
+    	            log.info("ℹ️ Error container not found or empty");
     	        }
     	        
     	        // Method 2: Look for specific error message by text
     	        try {
-    	            WebElement specificError = driver.findElement(By.xpath("//*[contains(text(),'" + expectedMessage + "')]"));
-    	            if (specificError.isDisplayed()) {
-    	                System.out.println("✅ Found specific error message element");
+    	            Optional<WebElement> specificError = waits.find(By.xpath("//*[contains(text(),'" + expectedMessage + "')]"));
+    	            if (specificError.isPresent() && specificError.get().isDisplayed()) {
+    	                log.info("✅ Found specific error message element");
     	                return true;
     	            }
     	        } catch (Exception e) {
-    	            System.out.println("ℹ️ Specific error message element not found");
+    	            log.info("ℹ️ Specific error message element not found");
     	        }
     	        
     	        // Method 3: Check all error-style elements
-    	        try {
-    	            java.util.List<WebElement> errorElements = driver.findElements(allErrorMessages);
-    	            System.out.println("📋 Found " + errorElements.size() + " potential error elements");
-    	            
-    	            for (WebElement element : errorElements) {
-    	                String text = element.getText().trim();
-    	                if (!text.isEmpty()) {
-    	                    System.out.println("📋 Error element text: '" + text + "'");
-    	                    if (text.contains(expectedMessage)) {
-    	                        System.out.println("✅ Found expected message in error element");
-    	                        return true;
-    	                    }
-    	                }
+    	        List<String> errorTexts = form.getErrorTexts();
+    	        log.debug("📋 Found " + errorTexts.size() + " visible error elements");
+    	        for (String text : errorTexts) {
+    	            log.debug("📋 Error element text: '" + text + "'");
+    	            if (text.contains(expectedMessage)) {
+    	                log.info("✅ Found expected message in error element");
+    	                return true;
     	            }
-    	        } catch (Exception e) {
-    	            System.out.println("ℹ️ No error-style elements found");
     	        }
     	        
-    	        // Method 4: Check page source as last resort
-    	        String pageSource = driver.getPageSource();
-    	        if (pageSource.contains(expectedMessage)) {
-    	            System.out.println("⚠️ Found message in page source but not in visible elements");
+    	        // Method 4: Search the page's text in the browser as last resort (hidden text included)
+    	        Optional<PageText.Match> pageMatch = PageText.find(driver, expectedMessage);
+    	        if (pageMatch.isPresent()) {
+    	            log.warn("⚠️ Found message in page text but not in error elements: " + pageMatch.get());
     	            return true;
     	        }
     	        
     	        // Method 5: Check for HTML5 validation messages
-    	        try {
-    	            WebElement nameField = driver.findElement(By.id("name"));
-    	            String validationMessage = (String) ((JavascriptExecutor) driver)
-    	                .executeScript("return arguments[0].validationMessage;", nameField);
-    	            
-    	            if (validationMessage != null && !validationMessage.isEmpty()) {
-    	                System.out.println("📋 HTML5 validation message: '" + validationMessage + "'");
-    	                if (validationMessage.contains(expectedMessage) || 
-    	                    expectedMessage.contains(validationMessage)) {
-    	                    System.out.println("✅ Found expected message in HTML5 validation");
-    	                    return true;
-    	                }
+    	        String validationMessage = form.validationMessage("name");
+    	        if (!validationMessage.isEmpty()) {
+    	            log.debug("📋 HTML5 validation message: '" + validationMessage + "'");
+    	            if (validationMessage.contains(expectedMessage) || 
+    	                expectedMessage.contains(validationMessage)) {
+    	                log.info("✅ Found expected message in HTML5 validation");
+    	                return true;
     	            }
-    	        } catch (Exception e) {
-    	            System.out.println("ℹ️ No HTML5 validation message");
+    	        } else {
+    	            log.info("ℹ️ No HTML5 validation message");
     	        }
     	        
-    	        System.out.println("❌ Expected message not found anywhere: " + expectedMessage);
+    	        log.warn("❌ Expected message not found anywhere: " + expectedMessage);
     	        return false;
     	        
     	    } catch (Exception e) {
-    	        System.out.println("❌ Error while checking for validation message: " + e.getMessage());
+    	        log.warn("❌ Error while checking for validation message: " + e.getMessage());
     	        return false;
     	    }
     	}
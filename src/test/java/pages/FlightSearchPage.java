@@ -4,35 +4,48 @@ import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 
-import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import utils.ElementCache;
+import utils.Log;
+import utils.WaitPolicy;
+import utils.Waits;
 
 public class FlightSearchPage {
+    private static final Log log = Log.get(FlightSearchPage.class);
+
     WebDriver driver;
     WebDriverWait wait;
+    Waits waits;
+
+    ElementCache elements;
+
+    By noFlightsMessage = By.xpath("//*[contains(text(),'No flights found')]");
+    By resultTable = By.id("myTable");
+
+    // Search input per search type
+    private static final Map<String, By> SEARCH_INPUTS = Map.of(
+        "flight number", By.id("myInputnumber"),
+        "flight name", By.id("myInputname"),
+        "flight type", By.id("myInputtype"));
 
     public FlightSearchPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        this.wait = new WebDriverWait(driver, WaitPolicy.explicitWait());
+        this.waits = new Waits(driver);
+        // The search page renders its inputs after load, so their first lookup waits for presence
+        this.elements = new ElementCache(driver, locator -> SEARCH_INPUTS.containsValue(locator)
+            ? wait.until(ExpectedConditions.presenceOfElementLocated(locator))
+            : driver.findElement(locator));
     }
 
     public void enterSearchValue(String searchType, String value) {
-        By inputLocator;
-        switch (searchType.trim().toLowerCase()) {
-            case "flight number":
-                inputLocator = By.xpath("//*[@id='myInputnumber']");
-                break;
-            case "flight name":
-                inputLocator = By.xpath("//*[@id='myInputname']");
-                break;
-            case "flight type":
-                inputLocator = By.xpath("//*[@id='myInputtype']");
-                break;
-            default:
-                throw new IllegalArgumentException("Unsupported search type: " + searchType);
+        By inputLocator = SEARCH_INPUTS.get(searchType.trim().toLowerCase());
+        if (inputLocator == null) {
+            throw new IllegalArgumentException("Unsupported search type: " + searchType);
         }
 
-        WebElement input = wait.until(ExpectedConditions.presenceOfElementLocated(inputLocator));
+        WebElement input = elements.get(inputLocator);
         input.clear();
         input.sendKeys(value);
         input.sendKeys(Keys.RETURN);
@@ -40,36 +53,34 @@ public class FlightSearchPage {
 
     public boolean isResultTablePopulated() {
         try {
-            WebElement table = driver.findElement(By.id("myTable"));
+            WebElement table = elements.get(resultTable);
             List<WebElement> visibleRows = table.findElements(By.xpath(".//tbody/tr[not(contains(@style,'display: none'))]"));
-            System.out.println("✅ Found " + visibleRows.size() + " visible result rows");
+            log.info("✅ Found " + visibleRows.size() + " visible result rows");
             return !visibleRows.isEmpty();
         } catch (Exception e) {
-            System.out.println("❌ Failed to find visible table rows: " + e.getMessage());
+            log.warn("❌ Failed to find visible table rows: " + e.getMessage());
             return false;
         }
     }
 
     public boolean isResultTableEmpty() {
         try {
-            WebElement table = driver.findElement(By.id("myTable"));
+            WebElement table = elements.get(resultTable);
             List<WebElement> visibleRows = table.findElements(By.xpath(".//tbody/tr[not(contains(@style,'display: none'))]"));
-            System.out.println("ℹ️ Visible rows count: " + visibleRows.size());
+            log.info("ℹ️ Visible rows count: " + visibleRows.size());
             return visibleRows.isEmpty();
         } catch (Exception e) {
-            System.out.println("✅ Assuming empty table (could not locate any visible rows)");
+            log.info("✅ Assuming empty table (could not locate any visible rows)");
             return true;
         }
     }
     public boolean isNoFlightsMessageVisible() {
-        try {
-            // Option 1: Check for a visible element with message
-            WebElement message = driver.findElement(By.xpath("//*[contains(text(),'No flights found')]"));
-            return message.isDisplayed();
-        } catch (NoSuchElementException e) {
-            System.out.println("ℹ️ No 'No flights found' message is visibly shown on the page.");
-            return false;
+        // Bounded probe: the message may legitimately never appear
+        if (waits.isDisplayed(noFlightsMessage, WaitPolicy.presenceTimeout())) {
+            return true;
         }
+        log.info("ℹ️ No 'No flights found' message is visibly shown on the page.");
+        return false;
     }
 
 }
@@ -0,0 +1,10 @@
+package runners;
+
+import org.junit.runner.RunWith;
+import utils.ScheduledCucumber;
+
+// Same @CucumberOptions as TestRunner (Cucumber reads them from the superclass), but scenarios run
+// longest-first on one thread pool. Run with -Pscheduled, see pom.xml
+@RunWith(ScheduledCucumber.class)
+public class ScheduledTestRunner extends TestRunner {
+}
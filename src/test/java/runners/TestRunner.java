@@ -4,11 +4,14 @@ import org.junit.runner.RunWith;
 import io.cucumber.junit.Cucumber;
 import io.cucumber.junit.CucumberOptions;
 
+// Features come from target/test-classes/features, where the build fills in the @sheet Examples rows
+// Run with -Pparallel to execute scenarios concurrently (surefire parallel=both), see pom.xml
+// Failed scenarios are listed in target/rerun.txt; -Prerun runs only those
 @RunWith(Cucumber.class)
 @CucumberOptions(
-    features = "src/test/resources",
+    features = "classpath:features",
     glue = {"stepDefinitions", "hooks"},
-    plugin = {"pretty", "html:target/cucumber-reports.html"},
+    plugin = {"pretty", "html:target/cucumber-reports.html", "utils.TimingPlugin:target/timings.json", "rerun:target/rerun.txt"},
     tags = "@UserLogin or @FlightBooking or @EnquiryPage or @FlightSearch",
     
     monochrome = true
@@ -0,0 +1,62 @@
+package stepDefinitions;
+
+import io.cucumber.java.en.*;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import org.junit.Assert;
+
+import utils.BookingRow;
+import utils.BookingRules;
+import utils.ConfigReader;
+import utils.Log;
+import utils.TestRows;
+
+// Browser-free booking steps: they never touch the driver, so a scenario made of them leases no browser
+public class BookingRuleSteps {
+    private static final Log log = Log.get(BookingRuleSteps.class);
+
+    private static final boolean PREFILTER = ConfigReader.getBoolean("bookingPrefilter", true);
+    // The oracle judges dates against the day the sheet was written for, so rows do not expire
+    private static final LocalDate RULES_TODAY = referenceDate(ConfigReader.get("bookingRulesToday", ""));
+
+    @Given("booking row {int} needs UI confirmation")
+    public void booking_row_needs_ui_confirmation(Integer rowIndex) {
+        Log.putContext("row", String.valueOf(rowIndex));
+        BookingRow data = TestRows.booking().row(rowIndex);
+        BookingRules.Verdict verdict = BookingRules.evaluate(data);
+        log.info("🧮 BookingRules for row " + rowIndex + ": " + verdict);
+
+        if (!PREFILTER) {
+            return;
+        }
+        // "Validate email and date for row" fails these rows whatever the page shows, so skip the browser
+        String email = data.getEmail().trim();
+        String date = data.getDate().trim();
+        if (!email.isEmpty() && !BookingRules.isEmailValid(email)) {
+            Assert.fail("Invalid email format: " + email + " (Row " + rowIndex + ") - decided by BookingRules without a browser");
+        }
+        if (!date.isEmpty() && !BookingRules.isDateInFuture(date)) {
+            Assert.fail("Date is not in future: " + date + " (Row " + rowIndex + ") - decided by BookingRules without a browser");
+        }
+    }
+
+    @Then("booking rules predict the expected message for row {int}")
+    public void booking_rules_predict_the_expected_message_for_row(Integer rowIndex) {
+        Log.putContext("row", String.valueOf(rowIndex));
+        BookingRow data = TestRows.booking().row(rowIndex);
+        BookingRules.Verdict verdict = BookingRules.evaluate(data, RULES_TODAY);
+
+        if (!verdict.predicts(data.getExpectedMessage())) {
+            Assert.fail("Row " + rowIndex + " expects '" + data.getExpectedMessage() + "' but BookingRules gives "
+                + verdict + " for " + data);
+        }
+        log.info("✅ BookingRules agree with row " + rowIndex + ": " + verdict);
+    }
+
+    // bookingRulesToday (dd/MM/yyyy), or the real date when unset
+    private static LocalDate referenceDate(String value) {
+        return value.trim().isEmpty() ? LocalDate.now() : LocalDate.parse(value.trim(), DateTimeFormatter.ofPattern("dd/MM/uuuu"));
+    }
+}
@@ -1,54 +1,59 @@
 package stepDefinitions;
 
-import java.util.Map;
 import org.openqa.selenium.WebDriver;
 import org.testng.Assert;
 import io.cucumber.java.en.*;
 import pages.EnquiryPage;
-import utils.ExcelReader;
+import utils.AppUrls;
+import utils.EnquiryRow;
+import utils.Log;
+import utils.TestRows;
 import hooks.Hooks;
 
 public class EnquiryStepDefinition {
-    WebDriver driver = hooks.Hooks.driver;
-    EnquiryPage enquiryPage;
-    ExcelReader reader = new ExcelReader();
+    private static final Log log = Log.get(EnquiryStepDefinition.class);
 
-    String filePath = "src/test/resources/Card.xlsx";
-    String sheetName = "enquiry_module";
+    WebDriver driver = Hooks.getDriver();
+    EnquiryPage enquiryPage;
 
     @Given("User is on Enquiry page")
     public void user_is_on_enquiry_page() {
-        driver.get("https://webapps.tekstac.com/FlightBooking/contactus.html");
+        driver.get(AppUrls.page("contactus.html"));
         enquiryPage = new EnquiryPage(driver);
     }
 
     @When("User submits enquiry with data from row {int}")
     public void user_submits_enquiry_with_data_from_row(Integer rowIndex) {
-        Map<String, String> data = reader.getCardDetails(filePath, sheetName, rowIndex);
-        System.out.println("Excel Data Loaded: " + data);
+        Log.putContext("row", String.valueOf(rowIndex));
+        EnquiryRow data = TestRows.enquiry().row(rowIndex);
+        log.debug("Excel Data Loaded: " + data);
 
-        String name = data.getOrDefault("Name", "");
-        String email = data.getOrDefault("Email", "");
-        String phone = data.getOrDefault("Phone", "");
-        String subject = data.getOrDefault("Subject", "");
-        String message = data.getOrDefault("Message", "");
+        String name = data.getName();
+        String email = data.getEmail();
+        String phone = data.getPhone();
+        String subject = data.getSubject();
+        String message = data.getMessage();
 
-        
-        enquiryPage.fillForm(name, email, phone, subject, message);
+        // Tag a scenario @keystrokes to type each field instead of the single-script fill
+        if (Hooks.hasTag("@keystrokes")) {
+            enquiryPage.fillFormByTyping(name, email, phone, subject, message);
+        } else {
+            enquiryPage.fillForm(name, email, phone, subject, message);
+        }
         enquiryPage.submitForm();
     }
     
     @Then("Validate all expected outcomes from row {int}")
     public void validate_all_expected_outcomes_from_row(Integer rowIndex) {
-        Map<String, String> data = reader.getCardDetails(filePath, sheetName, rowIndex);
+        EnquiryRow data = TestRows.enquiry().row(rowIndex);
         
-        String expectedErrorMsg = data.getOrDefault("ExpectedErrorText", "").trim();
-        String expectedErrorField = data.getOrDefault("ExpectedErrorField", "").trim();
-        String expectedSuccessText = data.getOrDefault("ExpectedSuccessText", "").trim();
+        String expectedErrorMsg = data.getExpectedErrorText();
+        String expectedErrorField = data.getExpectedErrorField();
+        String expectedSuccessText = data.getExpectedSuccessText();
         
-        System.out.println("Row " + rowIndex + " - Expected Error Field: " + expectedErrorField);
-        System.out.println("Row " + rowIndex + " - Expected Error Message: " + expectedErrorMsg);
-        System.out.println("Row " + rowIndex + " - Expected Success Text: " + expectedSuccessText);
+        log.info("Row " + rowIndex + " - Expected Error Field: " + expectedErrorField);
+        log.info("Row " + rowIndex + " - Expected Error Message: " + expectedErrorMsg);
+        log.info("Row " + rowIndex + " - Expected Success Text: " + expectedSuccessText);
         
         // Check if we're expecting an error message
         if (!expectedErrorMsg.isEmpty() && !expectedErrorField.isEmpty()) {
@@ -63,22 +68,22 @@ public class EnquiryStepDefinition {
                 actualError = enquiryPage.getErrorMessage(expectedErrorField);
             }
             
-            System.out.println("Row " + rowIndex + " - Actual Error Message: '" + actualError + "'");
+            log.info("Row " + rowIndex + " - Actual Error Message: '" + actualError + "'");
             
             if (actualError.isEmpty()) {
                 // No error message found - this could be a bug
                 String actualSuccessMsg = enquiryPage.getSuccessMessage();
-                System.out.println("Row " + rowIndex + " - Actual Success Message: '" + actualSuccessMsg + "'");
+                log.info("Row " + rowIndex + " - Actual Success Message: '" + actualSuccessMsg + "'");
                 
                 if (!actualSuccessMsg.isEmpty()) {
                     // SUCCESS MESSAGE APPEARED WHEN ERROR WAS EXPECTED - THIS IS A BUG
                     
                     // Special handling for phone validation bug
                     if (expectedErrorField.equalsIgnoreCase("phone")) {
-                        System.out.println("🚨 PHONE VALIDATION BUG DETECTED! 🚨");
-                        System.out.println("📞 Expected: Error message '" + expectedErrorMsg + "' for invalid phone number");
-                        System.out.println("✅ Actual: Success message '" + actualSuccessMsg + "' (INCORRECT BEHAVIOR)");
-                        System.out.println("🐛 The website incorrectly accepts invalid phone numbers!");
+                        log.info("🚨 PHONE VALIDATION BUG DETECTED! 🚨");
+                        log.info("📞 Expected: Error message '" + expectedErrorMsg + "' for invalid phone number");
+                        log.info("✅ Actual: Success message '" + actualSuccessMsg + "' (INCORRECT BEHAVIOR)");
+                        log.info("🐛 The website incorrectly accepts invalid phone numbers!");
                         
                         // Take screenshot immediately when phone bug is detected
                         Hooks.takeScreenshotOnStepFailure("phone_validation_bug_row_" + rowIndex);
@@ -89,9 +94,9 @@ public class EnquiryStepDefinition {
                                   "The phone validation is not working correctly on the website.");
                     } else {
                         // General validation bug for other fields
-                        System.out.println("🐛 VALIDATION BUG DETECTED in Row " + rowIndex + ":");
-                        System.out.println("Expected: Error '" + expectedErrorMsg + "' in field '" + expectedErrorField + "'");
-                        System.out.println("Actual: Success message '" + actualSuccessMsg + "'");
+                        log.info("🐛 VALIDATION BUG DETECTED in Row " + rowIndex + ":");
+                        log.info("Expected: Error '" + expectedErrorMsg + "' in field '" + expectedErrorField + "'");
+                        log.info("Actual: Success message '" + actualSuccessMsg + "'");
                         
                         // Take screenshot for general validation bugs too
                         Hooks.takeScreenshotOnStepFailure("validation_bug_" + expectedErrorField.toLowerCase() + "_row_" + rowIndex);
@@ -103,7 +108,7 @@ public class EnquiryStepDefinition {
                     }
                 } else {
                     // No error and no success message
-                    System.out.println("❌ No message displayed when error was expected");
+                    log.error("❌ No message displayed when error was expected");
                     
                     // Take screenshot when no message appears but error was expected
                     Hooks.takeScreenshotOnStepFailure("no_message_displayed_" + expectedErrorField.toLowerCase() + "_row_" + rowIndex);
@@ -113,7 +118,7 @@ public class EnquiryStepDefinition {
                 }
             } else {
                 // Error message found - validate it matches expected
-                System.out.println("✅ Error message found as expected");
+                log.info("✅ Error message found as expected");
                 
                 // Remove trailing periods and extra spaces for comparison
                 String cleanActualError = actualError.trim().replaceAll("\\.$", "");
@@ -124,14 +129,14 @@ public class EnquiryStepDefinition {
                 
                 Assert.assertEquals(cleanActualError, cleanExpectedError, 
                     "Error message mismatch for row " + rowIndex + " in field: " + expectedErrorField);
-                System.out.println("✅ Error validation passed for row " + rowIndex);
+                log.info("✅ Error validation passed for row " + rowIndex);
             }
         } 
         // Check if we're expecting a success message
         else if (!expectedSuccessText.isEmpty()) {
             String actualSuccessMsg = enquiryPage.getSuccessMessage();
-            System.out.println("Row " + rowIndex + " - Expected Success: '" + expectedSuccessText + "'");
-            System.out.println("Row " + rowIndex + " - Actual Success: '" + actualSuccessMsg + "'");
+            log.info("Row " + rowIndex + " - Expected Success: '" + expectedSuccessText + "'");
+            log.info("Row " + rowIndex + " - Actual Success: '" + actualSuccessMsg + "'");
             
             // Remove trailing periods and extra spaces for comparison
             String cleanActualSuccess = actualSuccessMsg.trim().replaceAll("\\.$", "");
@@ -139,9 +144,9 @@ public class EnquiryStepDefinition {
             
             Assert.assertEquals(cleanActualSuccess, cleanExpectedSuccess, 
                 "Success message mismatch for row " + rowIndex);
-            System.out.println("✅ Success validation passed for row " + rowIndex);
+            log.info("✅ Success validation passed for row " + rowIndex);
         } else {
-            System.out.println("⚠️ No expected outcome defined for row " + rowIndex);
+            log.warn("⚠️ No expected outcome defined for row " + rowIndex);
         }
     }
 
@@ -5,50 +5,53 @@ import io.cucumber.java.en.*;
 
 import org.junit.Assert;
 import org.openqa.selenium.By;
-import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
 import pages.FlightBookingPage;
-import utils.ExcelReader;
+import utils.AppUrls;
+import utils.BookingRow;
+import utils.BookingRules;
+import utils.FormSnapshot;
+import utils.Log;
+import utils.TestRows;
+import utils.Waits;
 
-import java.util.Map;
+import java.util.Optional;
 
 public class FlightBookingSteps {
+    private static final Log log = Log.get(FlightBookingSteps.class);
 
-    WebDriver driver = Hooks.driver;
+    WebDriver driver = Hooks.getDriver();
     FlightBookingPage bookingPage = new FlightBookingPage(driver);
-    ExcelReader reader = new ExcelReader();
-
-    String filePath = "src/test/resources/Card.xlsx"; 
-    String sheetName = "flight_booking_details";
+    Waits waits = new Waits(driver);
 
     @Given("User is on Ticket Booking page")
     public void user_is_on_ticket_booking_page() {
-        driver.get("https://webapps.tekstac.com/FlightBooking/index.html");
+        driver.get(AppUrls.page("index.html"));
     }
 
     @When("User enters booking details from row {int}")
     public void user_enters_booking_details_from_row(Integer rowIndex) {
+        Log.putContext("row", String.valueOf(rowIndex));
         try {
-            Map<String, String> data = reader.getCardDetails(filePath, sheetName, rowIndex);
+            BookingRow data = TestRows.booking().row(rowIndex);
             
-            System.out.println("📝 Entering booking details from row " + rowIndex);
+            log.info("📝 Entering booking details from row " + rowIndex);
             
-            // Enter all fields even if some are empty
-            bookingPage.enterOrigin(data.get("origin"));
-            bookingPage.enterDestination(data.get("destination"));
-            bookingPage.enterDate(data.get("date"));
-            bookingPage.selectClass(data.get("classType"));
-            bookingPage.enterName(data.get("name"));
-            bookingPage.enterEmail(data.get("email"));
-            bookingPage.enterPhone(data.get("phone"));
-            bookingPage.enterNumberOfPassengers(data.get("passengers"));
+            // Enter all fields even if some are empty; tag a scenario @keystrokes to type them one by one
+            if (Hooks.hasTag("@keystrokes")) {
+                bookingPage.fillBookingFormByTyping(data.getOrigin(), data.getDestination(), data.getDate(),
+                    data.getClassType(), data.getName(), data.getEmail(), data.getPhone(), data.getPassengers());
+            } else {
+                bookingPage.fillBookingForm(data.getOrigin(), data.getDestination(), data.getDate(),
+                    data.getClassType(), data.getName(), data.getEmail(), data.getPhone(), data.getPassengers());
+            }
             
-            System.out.println("✅ All booking details processing completed for row " + rowIndex);
+            log.info("✅ All booking details processing completed for row " + rowIndex);
             
         } catch (Exception e) {
-            System.out.println("❌ Error processing row " + rowIndex + ": " + e.getMessage());
+            log.error("❌ Error processing row " + rowIndex + ": " + e.getMessage());
             throw new RuntimeException("Failed to enter booking details from row " + rowIndex, e);
         }
     }
@@ -56,105 +59,93 @@ public class FlightBookingSteps {
     @Then("Validate expected message for row {int}")
     public void validate_expected_message_for_row(Integer rowIndex) {
         try {
-            Map<String, String> data = reader.getCardDetails(filePath, sheetName, rowIndex);
-            String expectedMessage = data.get("expectedMessage");
+            BookingRow data = TestRows.booking().row(rowIndex);
+            String expectedMessage = data.getExpectedMessage();
             
-            if (expectedMessage != null && !expectedMessage.trim().isEmpty()) {
-                System.out.println("🔍 Looking for expected message: " + expectedMessage);
+            if (!expectedMessage.trim().isEmpty()) {
+                log.info("🔍 Looking for expected message: " + expectedMessage);
                 
-                // Wait for potential validation messages
-                Thread.sleep(1000);
+                // Wait for potential validation messages to finish rendering
+                waits.forDomQuiet();
                 
                 // Check if the expected validation message appears
                 boolean messageFound = checkForValidationMessage(expectedMessage);
                 
                 if (messageFound) {
-                    System.out.println("✅ Expected validation message found: " + expectedMessage);
-                    System.out.println("✅ Frontend validation is working correctly!");
+                    log.info("✅ Expected validation message found: " + expectedMessage);
+                    log.info("✅ Frontend validation is working correctly!");
                 } else {
-                    System.out.println("❌ Expected validation message NOT found: " + expectedMessage);
-                    System.out.println("❌ DEFECT: Frontend validation is missing for invalid input!");
-                    System.out.println("❌ The application accepted invalid data: " + data.get("name"));
+                    log.error("❌ Expected validation message NOT found: " + expectedMessage);
+                    log.error("❌ DEFECT: Frontend validation is missing for invalid input!");
+                    log.error("❌ The application accepted invalid data: " + data.getName());
+                    BookingRules.Verdict verdict = BookingRules.evaluate(data);
+                    if (verdict.isUnenforced(expectedMessage)) {
+                        log.error("🧮 BookingRules: the data expects this, but the page is known not to check it");
+                    } else if (verdict.predicts(expectedMessage)) {
+                        log.error("🧮 BookingRules predicts this message too: the page is missing the check");
+                    } else {
+                        log.error("🧮 BookingRules predicts '" + verdict.getDisplayedText() + "': check the Card.xlsx row");
+                    }
                     
                     // This should FAIL the test - validation is required but missing
                     Assert.fail("VALIDATION DEFECT: Expected validation message '" + expectedMessage + 
                                "' was not displayed. The application incorrectly accepted invalid input: '" + 
-                               data.get("name") + "'. Frontend validation needs to be implemented.");
+                               data.getName() + "'. Frontend validation needs to be implemented.");
                 }
                 
             } else {
-                System.out.println("ℹ️ No expected validation message specified for row " + rowIndex + " - test passes");
+                log.info("ℹ️ No expected validation message specified for row " + rowIndex + " - test passes");
             }
             
         } catch (Exception e) {
-            System.out.println("❌ Error validating expected message for row " + rowIndex + ": " + e.getMessage());
+            log.error("❌ Error validating expected message for row " + rowIndex + ": " + e.getMessage());
             Assert.fail("Exception occurred while validating expected message: " + e.getMessage());
         }
     }
 
     private boolean checkForValidationMessage(String expectedMessage) {
         try {
+            // Field values, classes, validation messages, errfn and error texts in one round trip
+            FormSnapshot form = bookingPage.captureFormSnapshot();
+
             // Method 1: Check the main error container (with <br> tags)
-            try {
-                WebElement errorDiv = driver.findElement(By.id("errfn"));
-                
-                // Get HTML content (to keep <br> intact)
-                String actualHtml = errorDiv.getAttribute("innerHTML").trim();
+            // HTML content keeps <br> intact
+            String actualHtml = form.containerHtml("errfn");
 
-                // Normalize expected message (replace \n with <br>)
-                String expectedNormalized = expectedMessage.replace("\\n", "<br>").trim();
+            // Normalize expected message (replace \n with <br>)
+            String expectedNormalized = expectedMessage.replace("\\n", "<br>").trim();
 
-                // Normalize actual (optional cleanup of extra whitespace)
-                String actualNormalized = actualHtml.replaceAll("\\s+", " ").replaceAll(" +", " ").trim();
+            // Normalize actual (optional cleanup of extra whitespace)
+            String actualNormalized = actualHtml.replaceAll("\\s+", " ").replaceAll(" +", " ").trim();
 
-                if (!actualNormalized.isEmpty() && actualNormalized.contains(expectedNormalized)) {
-                    return true;
-                }
-            } catch (Exception e) {
-                // div with id errfn not found or empty
+            if (!actualNormalized.isEmpty() && actualNormalized.contains(expectedNormalized)) {
+                return true;
             }
 
             // Method 2: Check any visible element containing exact message
-            try {
-                WebElement messageElement = driver.findElement(
-                    By.xpath("//*[contains(text(),'" + expectedMessage + "')]"));
-                return messageElement.isDisplayed();
-            } catch (Exception e) {
-                // Message not found
+            Optional<WebElement> messageElement = waits.find(
+                By.xpath("//*[contains(text(),'" + expectedMessage + "')]"));
+            if (messageElement.isPresent()) {
+                return messageElement.get().isDisplayed();
             }
 
             // Method 3: HTML5 validation messages
-            try {
-                WebElement nameField = driver.findElement(By.id("name"));
-                String validationMessage = (String) ((JavascriptExecutor) driver)
-                    .executeScript("return arguments[0].validationMessage;", nameField);
-
-                if (validationMessage != null && !validationMessage.isEmpty()) {
-                    return validationMessage.contains(expectedMessage) || 
-                           expectedMessage.toLowerCase().contains(validationMessage.toLowerCase());
-                }
-            } catch (Exception e) {
-                // No HTML5 validation
+            String validationMessage = form.validationMessage("name");
+            if (!validationMessage.isEmpty()) {
+                return validationMessage.contains(expectedMessage) || 
+                       expectedMessage.toLowerCase().contains(validationMessage.toLowerCase());
             }
 
             // Method 4: Check invalid-feedback or error-message classes
-            try {
-                WebElement nameField = driver.findElement(By.id("name"));
-                String className = nameField.getAttribute("class");
-
-                if (className != null && (className.contains("is-invalid") || className.contains("error"))) {
-                    WebElement feedbackElement = driver.findElement(
-                        By.xpath("//div[contains(@class,'invalid-feedback') or contains(@class,'error-message')]"));
-                    return feedbackElement.getText().contains(expectedMessage);
-                }
-            } catch (Exception e) {
-                // No CSS validation class-based error
+            String className = form.className("name");
+            if (className.contains("is-invalid") || className.contains("error")) {
+                return form.hasErrorContaining(expectedMessage);
             }
 
             return false;
 
         } catch (Exception e) {
-            System.out.println("❌ Error checking for validation message: " + e.getMessage());
+            log.error("❌ Error checking for validation message: " + e.getMessage());
             return false;
         }
     }
@@ -165,48 +156,34 @@ public class FlightBookingSteps {
     public void verify_form_incorrectly_accepted_invalid_data(Integer rowIndex) {
         try {
             // Check if booking confirmation appeared (which shouldn't happen with invalid data)
-            boolean confirmationShown = false;
-            
-            try {
-                WebElement confirmation = driver.findElement(By.id("bookingconfirm"));
-                confirmationShown = confirmation.isDisplayed();
-            } catch (Exception e) {
-                // Confirmation not shown
-            }
-            
-            try {
-                WebElement ticketTable = driver.findElement(By.id("ttab"));
-                confirmationShown = confirmationShown || ticketTable.isDisplayed();
-            } catch (Exception e) {
-                // Ticket table not shown
-            }
+            // Immediate lookups: absence is the expected (passing) outcome here
+            Optional<WebElement> confirmation = waits.find(By.id("bookingconfirm"));
+            Optional<WebElement> ticketTable = waits.find(By.id("ttab"));
+            boolean confirmationShown = (confirmation.isPresent() && confirmation.get().isDisplayed())
+                || (ticketTable.isPresent() && ticketTable.get().isDisplayed());
             
             if (confirmationShown) {
-                System.out.println("❌ CRITICAL DEFECT: Form accepted invalid data and showed confirmation!");
-                System.out.println("❌ Invalid data was processed instead of being rejected!");
+                log.error("❌ CRITICAL DEFECT: Form accepted invalid data and showed confirmation!");
+                log.error("❌ Invalid data was processed instead of being rejected!");
                 
-                Map<String, String> data = reader.getCardDetails(filePath, sheetName, rowIndex);
+                BookingRow data = TestRows.booking().row(rowIndex);
                 Assert.fail("CRITICAL VALIDATION DEFECT: The form accepted and processed invalid data ('" + 
-                           data.get("name") + "') instead of showing validation error. This is a security risk!");
+                           data.getName() + "') instead of showing validation error. This is a security risk!");
             } else {
-                System.out.println("✅ Good: Form did not show confirmation for invalid data");
+                log.info("✅ Good: Form did not show confirmation for invalid data");
             }
             
         } catch (Exception e) {
-            System.out.println("❌ Error checking form submission result: " + e.getMessage());
+            log.error("❌ Error checking form submission result: " + e.getMessage());
         }
     }
     
     @And("clicks on Book Now")
     public void clicks_on_book_now() {
-        System.out.println("Click Book Now button using sir's approach");
+        log.info("Click Book Now button using sir's approach");
         
-        // Add a small delay
-        try {
-            Thread.sleep(1000); // Give time for all form processing
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        // Let any form processing triggered by the field events settle
+        waits.forDomQuiet();
         
         bookingPage.submitForm();
     }
@@ -214,32 +191,32 @@ public class FlightBookingSteps {
     @Then("Validate email and date for row {int}")
     public void validate_email_and_date_for_row(Integer rowIndex) {
         try {
-            Map<String, String> data = reader.getCardDetails(filePath, sheetName, rowIndex);
+            BookingRow data = TestRows.booking().row(rowIndex);
 
-            String email = data.get("email");
-            String date = data.get("date");
+            String email = data.getEmail();
+            String date = data.getDate();
 
             // Log validation results but don't fail test for empty fields
-            if (email == null || email.trim().isEmpty()) {
-                System.out.println("⚠️ Email is empty for row " + rowIndex);
+            if (email.trim().isEmpty()) {
+                log.warn("⚠️ Email is empty for row " + rowIndex);
             } else if (!bookingPage.isEmailValid(email)) {
-                System.out.println("⚠️ Invalid email format: " + email + " (Row " + rowIndex + ")");
+                log.warn("⚠️ Invalid email format: " + email + " (Row " + rowIndex + ")");
                 Assert.assertTrue(false);
             } else {
-                System.out.println("✅ Valid email: " + email + " (Row " + rowIndex + ")");
+                log.info("✅ Valid email: " + email + " (Row " + rowIndex + ")");
             }
 
-            if (date == null || date.trim().isEmpty()) {
-                System.out.println("⚠️ Date is empty for row " + rowIndex);
+            if (date.trim().isEmpty()) {
+                log.warn("⚠️ Date is empty for row " + rowIndex);
             } else if (!bookingPage.isDateInFuture(date)) {
-                System.out.println("⚠️ Date is not in future: " + date + " (Row " + rowIndex + ")");
+                log.warn("⚠️ Date is not in future: " + date + " (Row " + rowIndex + ")");
                 Assert.assertTrue(false);
             } else {
-                System.out.println("✅ Valid future date: " + date + " (Row " + rowIndex + ")");
+                log.info("✅ Valid future date: " + date + " (Row " + rowIndex + ")");
             }
             
         } catch (Exception e) {
-            System.out.println("❌ Error validating email and date for row " + rowIndex + ": " + e.getMessage());
+            log.error("❌ Error validating email and date for row " + rowIndex + ": " + e.getMessage());
         }
     }
 
@@ -255,25 +232,19 @@ public class FlightBookingSteps {
     
     @And("User clicks on Reset button")
     public void user_clicks_on_reset_button() {
-        System.out.println("🔄 User clicking on Reset button");
+        log.info("🔄 User clicking on Reset button");
         bookingPage.clickResetButton();
     }
 
     @Then("All form fields should be empty")
     public void all_form_fields_should_be_empty() {
-        System.out.println("🔍 Validating that all fields are empty after reset");
-        
-        // Small wait to ensure reset operation is complete
-        try {
-            Thread.sleep(1000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        log.info("🔍 Validating that all fields are empty after reset");
         
+        // clickResetButton already waited for the form to clear
         if (!bookingPage.areAllFieldsEmpty()) {
             throw new AssertionError("Reset button did not clear all form fields properly");
         }
         
-        System.out.println("✅ Reset validation successful - all fields are empty");
+        log.info("✅ Reset validation successful - all fields are empty");
     }
 }
\ No newline at end of file
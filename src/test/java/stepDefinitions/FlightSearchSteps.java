@@ -5,41 +5,40 @@ import io.cucumber.java.en.*;
 import org.junit.Assert;
 import org.openqa.selenium.WebDriver;
 import pages.FlightSearchPage;
-import utils.ExcelReader;
-
-import java.util.Map;
+import utils.AppUrls;
+import utils.Log;
+import utils.SearchRow;
+import utils.TestRows;
 
 public class FlightSearchSteps {
+    private static final Log log = Log.get(FlightSearchSteps.class);
 
     WebDriver driver = Hooks.getDriver();
     FlightSearchPage searchPage = new FlightSearchPage(driver);
-    ExcelReader reader = new ExcelReader();
-
-    String filePath = "src/test/resources/Card.xlsx";
-    String sheetName = "flight_search_details";
-    Map<String, String> data;
+    SearchRow data;
 
     @Given("User is on Flight Search page")
     public void user_is_on_flight_search_page() {
-        driver.get("https://webapps.tekstac.com/FlightBooking/search.html");
+        driver.get(AppUrls.page("search.html"));
     }
 
     @When("User searches for flight using row {int}")
     public void user_searches_for_flight_using_row(Integer rowIndex) {
-        data = reader.getCardDetails(filePath, sheetName, rowIndex);
-        String type = data.get("searchType");
-        String value = data.get("inputValue");
+        Log.putContext("row", String.valueOf(rowIndex));
+        data = TestRows.search().row(rowIndex);
+        String type = data.getSearchType();
+        String value = data.getInputValue();
 
-        System.out.println("🔍 Searching with: " + type + " = " + value);
+        log.info("🔍 Searching with: " + type + " = " + value);
         searchPage.enterSearchValue(type, value);
     }
 
    
     @Then("Validate search result for row {int}")
     public void validate_search_result_for_row(Integer rowIndex) {
-        String expected = data.get("expectedMessage").toLowerCase().trim();
+        String expected = data.getExpectedMessage().toLowerCase().trim();
 
-        System.out.println("🔎 Validating table result behavior for: " + expected);
+        log.info("🔎 Validating table result behavior for: " + expected);
 
         boolean actualBehavior;
 
@@ -0,0 +1,44 @@
+package utils;
+
+import java.net.URI;
+
+/**
+ * Resolves FlightBooking page names against the configured base URL.
+ *
+ * baseUrl=local serves the pages from the embedded FixtureServer (offline, no network latency);
+ * any other value is used as the remote base, e.g. https://webapps.tekstac.com/FlightBooking/
+ *
+ * Config keys: baseUrl
+ */
+public final class AppUrls {
+
+    public static final String LOCAL = "local";
+    private static final String DEFAULT_BASE_URL = "https://webapps.tekstac.com/FlightBooking/";
+
+    private static volatile URI base;
+
+    private AppUrls() {
+    }
+
+    public static boolean isLocal() {
+        return LOCAL.equalsIgnoreCase(ConfigReader.get("baseUrl", DEFAULT_BASE_URL));
+    }
+
+    // Absolute URL of a page, e.g. page("login.html")
+    public static String page(String name) {
+        return base().resolve(name).toString();
+    }
+
+    private static URI base() {
+        if (base == null) {
+            synchronized (AppUrls.class) {
+                if (base == null) {
+                    String configured = ConfigReader.get("baseUrl", DEFAULT_BASE_URL);
+                    // A page URL such as .../FlightBooking/login.html also works: resolve() drops the file name
+                    base = URI.create(isLocal() ? FixtureServer.getInstance().start() : configured);
+                }
+            }
+        }
+        return base;
+    }
+}
@@ -0,0 +1,89 @@
+package utils;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * One row of the flight_booking_details sheet.
+ */
+public final class BookingRow {
+
+    static final List<String> COLUMNS = Arrays.asList(
+        "origin", "destination", "date", "classType", "name", "email", "phone", "passengers", "expectedMessage");
+
+    private final int rowNumber;
+    private final String origin;
+    private final String destination;
+    private final String date;
+    private final String classType;
+    private final String name;
+    private final String email;
+    private final String phone;
+    private final String passengers;
+    private final String expectedMessage;
+
+    private BookingRow(int rowNumber, String[] values) {
+        this.rowNumber = rowNumber;
+        this.origin = values[0];
+        this.destination = values[1];
+        this.date = values[2];
+        this.classType = values[3];
+        this.name = values[4];
+        this.email = values[5];
+        this.phone = values[6];
+        this.passengers = values[7];
+        this.expectedMessage = values[8];
+    }
+
+    static RowTable<BookingRow> bind(SheetTable sheet) {
+        return RowTable.bind(sheet, COLUMNS, BookingRow::new);
+    }
+
+    public int getRowNumber() {
+        return rowNumber;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public String getDestination() {
+        return destination;
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public String getClassType() {
+        return classType;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public String getPassengers() {
+        return passengers;
+    }
+
+    // Validation message (or confirmation) the row expects; "" means nothing specific is expected
+    public String getExpectedMessage() {
+        return expectedMessage;
+    }
+
+    @Override
+    public String toString() {
+        return "BookingRow{row=" + rowNumber + ", origin=" + origin + ", destination=" + destination + ", date=" + date
+            + ", classType=" + classType + ", name=" + name + ", email=" + email + ", phone=" + phone
+            + ", passengers=" + passengers + ", expectedMessage=" + expectedMessage + "}";
+    }
+}
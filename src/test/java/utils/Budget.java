@@ -0,0 +1,97 @@
+package utils;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Limits a scenario has to stay within, declared with a tag on the scenario or its feature:
+ *
+ *   @budget(commands=60,ms=30000,sleeps=0,stepCommands=25,stepMs=10000,stepSleeps=0)
+ *
+ * commands, ms and sleeps apply to the whole scenario; the step* keys to every single step. Any
+ * subset can be given. When several @budget tags apply (feature and scenario), the strictest value
+ * of each key wins. maxCommandsPerStep from config.properties is the default for stepCommands.
+ */
+public final class Budget {
+
+    public static final String COMMANDS = "commands";
+    public static final String MS = "ms";
+    public static final String SLEEPS = "sleeps";
+    public static final String STEP_COMMANDS = "stepCommands";
+    public static final String STEP_MS = "stepMs";
+    public static final String STEP_SLEEPS = "stepSleeps";
+
+    private static final List<String> KEYS = Arrays.asList(COMMANDS, MS, SLEEPS, STEP_COMMANDS, STEP_MS, STEP_SLEEPS);
+    private static final Pattern TAG = Pattern.compile("@budget\\((.*)\\)");
+    private static final Pattern LIMIT = Pattern.compile("\\s*(\\w+)\\s*=\\s*(\\d+)\\s*");
+    private static final int MAX_COMMANDS_PER_STEP = ConfigReader.getInt("maxCommandsPerStep", 0);
+
+    private final Map<String, Long> limits;
+
+    private Budget(Map<String, Long> limits) {
+        this.limits = Collections.unmodifiableMap(limits);
+    }
+
+    /**
+     * Reads every @budget(...) tag among the scenario's tags; throws IllegalArgumentException for a
+     * malformed tag or an unknown key, so a typo does not silently switch a budget off.
+     */
+    public static Budget fromTags(Collection<String> tags) {
+        return fromTags(tags, MAX_COMMANDS_PER_STEP);
+    }
+
+    // maxCommandsPerStep > 0 is the stepCommands limit when no tag sets a lower one
+    static Budget fromTags(Collection<String> tags, int maxCommandsPerStep) {
+        Map<String, Long> limits = new LinkedHashMap<>();
+        if (maxCommandsPerStep > 0) {
+            limits.put(STEP_COMMANDS, (long) maxCommandsPerStep);
+        }
+        for (String tag : tags) {
+            Matcher matcher = TAG.matcher(tag);
+            if (!matcher.matches()) {
+                continue;
+            }
+            for (String entry : matcher.group(1).split(",")) {
+                Matcher limit = LIMIT.matcher(entry);
+                if (!limit.matches() || !KEYS.contains(limit.group(1))) {
+                    throw new IllegalArgumentException("Invalid budget '" + entry.trim() + "' in " + tag
+                        + " (expected key=number, keys: " + KEYS + ")");
+                }
+                limits.merge(limit.group(1), Long.parseLong(limit.group(2)), Math::min);
+            }
+        }
+        return new Budget(limits);
+    }
+
+    // The limit for a key, or -1 when the budget does not set it
+    public long limit(String key) {
+        return limits.getOrDefault(key, -1L);
+    }
+
+    private boolean has(String key) {
+        return limits.containsKey(key);
+    }
+
+    public boolean isEmpty() {
+        return limits.isEmpty();
+    }
+
+    public boolean limitsSleeps() {
+        return has(SLEEPS) || has(STEP_SLEEPS);
+    }
+
+    public boolean limitsCommands() {
+        return has(COMMANDS) || has(STEP_COMMANDS);
+    }
+
+    @Override
+    public String toString() {
+        return "@budget" + limits.toString().replace('{', '(').replace('}', ')').replace(" ", "");
+    }
+}
@@ -0,0 +1,117 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Enforces the scenario's @budget (see Budget): WebDriver commands, wall time and fixed sleeps, per
+ * step and per scenario.
+ *
+ * Hooks calls scenarioStarted() at the end of setUp, stepStarted()/checkStep() around every step and
+ * checkScenario() before tearDown releases the browser, so pool clean-up does not count. A breach
+ * throws AssertionError, which fails the scenario with the measured values and, for commands, the
+ * top callers from CommandProfiler. Scenarios without a budget are not tracked.
+ */
+public final class BudgetGuard {
+    private static final Log log = Log.get(BudgetGuard.class);
+
+    private static final boolean COMMANDS_MEASURED = ConfigReader.getBoolean("commandTimings", true);
+    private static final AtomicBoolean UNMEASURED_WARNED = new AtomicBoolean();
+
+    private static final ThreadLocal<State> STATE = new ThreadLocal<>();
+
+    private BudgetGuard() {
+    }
+
+    // Throws IllegalArgumentException for a malformed @budget tag
+    public static void scenarioStarted(Collection<String> tags) {
+        STATE.remove();
+        Budget budget = Budget.fromTags(tags);
+        if (budget.isEmpty()) {
+            return;
+        }
+        if (budget.limitsCommands() && !COMMANDS_MEASURED && UNMEASURED_WARNED.compareAndSet(false, true)) {
+            log.warn("⚠️ commandTimings=false: command budgets are not enforced");
+        }
+        if (budget.limitsSleeps()) {
+            SleepDetector.watch(Thread.currentThread());
+        }
+        STATE.set(new State(budget));
+        log.debug("🎯 Budget " + budget);
+    }
+
+    public static void stepStarted() {
+        State state = STATE.get();
+        if (state != null) {
+            state.stepStart = System.nanoTime();
+            state.stepSleepsAtStart = SleepDetector.sleeps(Thread.currentThread());
+        }
+    }
+
+    // Throws AssertionError when the step that just ran went over a step* limit
+    public static void checkStep() {
+        State state = STATE.get();
+        if (state == null) {
+            return;
+        }
+        List<String> breaches = new ArrayList<>();
+        check(breaches, state.budget, Budget.STEP_COMMANDS, "commands", CommandProfiler.lastStepCommands());
+        check(breaches, state.budget, Budget.STEP_MS, "ms", elapsedMillis(state.stepStart));
+        check(breaches, state.budget, Budget.STEP_SLEEPS, "sleeps",
+            SleepDetector.sleeps(Thread.currentThread()) - state.stepSleepsAtStart);
+        if (!breaches.isEmpty()) {
+            throw new AssertionError("Step '" + CommandProfiler.lastStepName() + "' over budget: "
+                + String.join(", ", breaches) + topCallers(CommandProfiler.describeLastStep()));
+        }
+    }
+
+    // Throws AssertionError when the scenario went over a scenario-wide limit; always stops tracking it
+    public static void checkScenario(String scenarioName) {
+        State state = STATE.get();
+        STATE.remove();
+        if (state == null) {
+            return;
+        }
+        try {
+            List<String> breaches = new ArrayList<>();
+            check(breaches, state.budget, Budget.COMMANDS, "commands", CommandProfiler.scenarioCommands());
+            check(breaches, state.budget, Budget.MS, "ms", elapsedMillis(state.scenarioStart));
+            check(breaches, state.budget, Budget.SLEEPS, "sleeps", SleepDetector.sleeps(Thread.currentThread()));
+            if (!breaches.isEmpty()) {
+                throw new AssertionError("Scenario '" + scenarioName + "' over budget: "
+                    + String.join(", ", breaches) + topCallers(CommandProfiler.describeScenario()));
+            }
+        } finally {
+            SleepDetector.unwatch(Thread.currentThread());
+        }
+    }
+
+    private static void check(List<String> breaches, Budget budget, String key, String label, long actual) {
+        long limit = budget.limit(key);
+        if (limit >= 0 && actual > limit) {
+            breaches.add(actual + " " + label + " (" + key + "=" + limit + ")");
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private static String topCallers(String callers) {
+        return callers.isEmpty() ? "" : "; top callers: " + callers;
+    }
+
+    private static final class State {
+        private final Budget budget;
+        private final long scenarioStart = System.nanoTime();
+        private long stepStart = System.nanoTime();
+        private int stepSleepsAtStart;
+
+        private State(Budget budget) {
+            this.budget = budget;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+public class BudgetTest {
+
+    @Test
+    public void readsEveryKeyOfATag() {
+        Budget budget = Budget.fromTags(Collections.singletonList(
+            "@budget(commands=60, ms=30000,sleeps=0,stepCommands=25,stepMs=10000,stepSleeps=1)"), 0);
+
+        assertEquals(60, budget.limit(Budget.COMMANDS));
+        assertEquals(30000, budget.limit(Budget.MS));
+        assertEquals(0, budget.limit(Budget.SLEEPS));
+        assertEquals(25, budget.limit(Budget.STEP_COMMANDS));
+        assertEquals(10000, budget.limit(Budget.STEP_MS));
+        assertEquals(1, budget.limit(Budget.STEP_SLEEPS));
+        assertTrue(budget.limitsCommands());
+        assertTrue(budget.limitsSleeps());
+    }
+
+    @Test
+    public void takesTheStrictestValueWhenSeveralTagsApply() {
+        Budget budget = Budget.fromTags(Arrays.asList(
+            "@FlightBooking", "@budget(commands=150,ms=60000)", "@budget(commands=90,stepMs=5000)", "@budget(ms=90000)"), 0);
+
+        assertEquals(90, budget.limit(Budget.COMMANDS));
+        assertEquals(60000, budget.limit(Budget.MS));
+        assertEquals(5000, budget.limit(Budget.STEP_MS));
+        assertEquals(-1, budget.limit(Budget.SLEEPS));
+        assertFalse(budget.limitsSleeps());
+    }
+
+    @Test
+    public void isEmptyWithoutBudgetTags() {
+        Budget budget = Budget.fromTags(Arrays.asList("@UserLogin", "@sheet:enquiry_module"), 0);
+
+        assertTrue(budget.isEmpty());
+        assertFalse(budget.limitsCommands());
+        assertEquals(-1, budget.limit(Budget.STEP_COMMANDS));
+    }
+
+    @Test
+    public void defaultsStepCommandsToMaxCommandsPerStep() {
+        Budget untagged = Budget.fromTags(Collections.singletonList("@UserLogin"), 40);
+        Budget looser = Budget.fromTags(Collections.singletonList("@budget(stepCommands=120)"), 40);
+        Budget stricter = Budget.fromTags(Collections.singletonList("@budget(stepCommands=25)"), 40);
+
+        assertEquals(40, untagged.limit(Budget.STEP_COMMANDS));
+        assertTrue(untagged.limitsCommands());
+        assertEquals(40, looser.limit(Budget.STEP_COMMANDS));
+        assertEquals(25, stricter.limit(Budget.STEP_COMMANDS));
+    }
+
+    @Test
+    public void rejectsUnknownKeys() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+            () -> Budget.fromTags(Collections.singletonList("@budget(commands=10,comands=5)"), 0));
+
+        assertTrue(e.getMessage(), e.getMessage().startsWith("Invalid budget 'comands=5' in @budget(commands=10,comands=5)"));
+    }
+
+    @Test
+    public void rejectsBadValues() {
+        for (String tag : Arrays.asList("@budget(ms=3s)", "@budget(commands=-1)", "@budget(commands)", "@budget()")) {
+            assertThrows(tag, IllegalArgumentException.class, () -> Budget.fromTags(Collections.singletonList(tag), 0));
+        }
+    }
+
+    @Test
+    public void printsAsATag() {
+        assertEquals("@budget(commands=60,ms=30000)",
+            Budget.fromTags(Collections.singletonList("@budget(commands=60,ms=30000)"), 0).toString());
+    }
+}
@@ -0,0 +1,167 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Counts and times the WebDriver commands of each scenario, per step and per calling method.
+ *
+ * TimingListener reports every remote command with its caller: the page-object method that issued
+ * it (e.g. FlightBookingPage.isErrorMessageDisplayed), else the step definition or hook. TimingPlugin
+ * marks the scenario and step boundaries on the scenario's thread. When a scenario finishes its top
+ * offenders are logged; BudgetGuard checks the counts against the scenario's @budget.
+ *
+ * Config key: commandProfileTop (offenders listed, default 5)
+ */
+public final class CommandProfiler {
+    private static final Log log = Log.get(CommandProfiler.class);
+
+    private static final int TOP = Math.max(1, ConfigReader.getInt("commandProfileTop", 5));
+
+    private static final ThreadLocal<Profile> PROFILE = new ThreadLocal<>();
+
+    private CommandProfiler() {
+    }
+
+    public static void scenarioStarted(String scenarioName) {
+        PROFILE.set(new Profile(scenarioName));
+    }
+
+    public static void stepStarted(String stepText) {
+        Profile profile = PROFILE.get();
+        if (profile != null) {
+            profile.current = new Tally(stepText);
+            profile.steps.add(profile.current);
+        }
+    }
+
+    public static void stepFinished() {
+        Profile profile = PROFILE.get();
+        if (profile != null) {
+            profile.current = null;
+        }
+    }
+
+    // Called by TimingListener for every remote command; ignored outside a scenario (e.g. pool warm-up)
+    public static void record(String caller, String command, long nanos) {
+        Profile profile = PROFILE.get();
+        if (profile == null) {
+            return;
+        }
+        profile.total.add(caller, command, nanos);
+        if (profile.current != null) {
+            profile.current.add(caller, command, nanos);
+        }
+    }
+
+    // Commands sent so far by the current scenario
+    public static int scenarioCommands() {
+        Profile profile = PROFILE.get();
+        return profile != null ? profile.total.count : 0;
+    }
+
+    public static String describeScenario() {
+        Profile profile = PROFILE.get();
+        return profile != null ? profile.total.describeTop(TOP) : "";
+    }
+
+    // Commands of the current scenario's last started step
+    public static int lastStepCommands() {
+        Tally step = lastStep();
+        return step != null ? step.count : 0;
+    }
+
+    public static String lastStepName() {
+        Tally step = lastStep();
+        return step != null ? step.name : "(unknown step)";
+    }
+
+    public static String describeLastStep() {
+        Tally step = lastStep();
+        return step != null ? step.describeTop(TOP) : "";
+    }
+
+    private static Tally lastStep() {
+        Profile profile = PROFILE.get();
+        return profile == null || profile.steps.isEmpty() ? null : profile.steps.get(profile.steps.size() - 1);
+    }
+
+    // Logs the scenario's command count, its top offenders and its busiest step, then forgets it
+    public static void scenarioFinished() {
+        Profile profile = PROFILE.get();
+        PROFILE.remove();
+        if (profile == null || profile.total.count == 0) {
+            return;
+        }
+        log.info("📡 " + profile.total.count + " WebDriver command(s), " + millis(profile.total.nanos) + " ms in '"
+            + profile.scenario + "'; top callers: " + profile.total.describeTop(TOP));
+        profile.steps.stream().max(Comparator.comparingInt(step -> step.count))
+            .filter(step -> step.count > 0)
+            .ifPresent(step -> log.info("📡 Busiest step: '" + step.name + "' with " + step.count + " command(s), "
+                + millis(step.nanos) + " ms"));
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.1f", nanos / 1_000_000.0);
+    }
+
+    private static final class Profile {
+        private final String scenario;
+        private final Tally total = new Tally("scenario");
+        private final List<Tally> steps = new ArrayList<>();
+        private Tally current;
+
+        private Profile(String scenario) {
+            this.scenario = scenario;
+        }
+    }
+
+    // Commands of one scope (scenario or step), broken down by caller and, per caller, by command
+    private static final class Tally {
+        private final String name;
+        private final Map<String, Caller> callers = new HashMap<>();
+        private int count;
+        private long nanos;
+
+        private Tally(String name) {
+            this.name = name;
+        }
+
+        private void add(String caller, String command, long commandNanos) {
+            count++;
+            nanos += commandNanos;
+            Caller entry = callers.computeIfAbsent(caller, c -> new Caller());
+            entry.count++;
+            entry.nanos += commandNanos;
+            entry.commands.merge(command, 1, Integer::sum);
+        }
+
+        // "FlightBookingPage.isErrorMessageDisplayed 12 (340.2 ms: findElements 6, getPageSource 1, ...); ..."
+        private String describeTop(int limit) {
+            return callers.entrySet().stream()
+                .sorted(Comparator.comparingInt((Map.Entry<String, Caller> e) -> e.getValue().count)
+                    .thenComparingLong(e -> e.getValue().nanos).reversed())
+                .limit(limit)
+                .map(e -> e.getKey() + " " + e.getValue().count + " (" + millis(e.getValue().nanos) + " ms: "
+                    + e.getValue().describeCommands() + ")")
+                .collect(Collectors.joining("; "));
+        }
+    }
+
+    private static final class Caller {
+        private final Map<String, Integer> commands = new HashMap<>();
+        private int count;
+        private long nanos;
+
+        private String describeCommands() {
+            return commands.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .map(e -> e.getKey() + " " + e.getValue())
+                .collect(Collectors.joining(", "));
+        }
+    }
+}
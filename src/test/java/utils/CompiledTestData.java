@@ -0,0 +1,114 @@
+package utils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary copy of a workbook, produced at build time by TestDataCompiler.
+ *
+ * The file records the size and last-modified time of the .xlsx it was compiled from; when the
+ * workbook has changed since, readIfCurrent() ignores the artifact and TestDataStore falls back
+ * to parsing the workbook with POI.
+ *
+ * Layout: magic, version, source size, source mtime, sheet count, then per sheet its name,
+ * headers, row count and every non-empty row as (row number, values).
+ */
+public final class CompiledTestData {
+    private static final Log log = Log.get(CompiledTestData.class);
+
+    public static final String RESOURCE_DIR = "testdata/";
+    private static final int MAGIC = 0x46425444; // "FBTD"
+    private static final int VERSION = 1;
+
+    private CompiledTestData() {
+    }
+
+    // Classpath resource holding the compiled copy of a workbook, e.g. testdata/Card.xlsx.bin
+    public static String resourceName(Path workbook) {
+        return RESOURCE_DIR + workbook.getFileName() + ".bin";
+    }
+
+    public static void write(Path workbook, Map<String, SheetTable> sheets, Path output) throws IOException {
+        Files.createDirectories(output.getParent());
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(output)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(Files.size(workbook));
+            out.writeLong(Files.getLastModifiedTime(workbook).toMillis());
+            out.writeInt(sheets.size());
+            for (SheetTable sheet : sheets.values()) {
+                out.writeUTF(sheet.getName());
+                out.writeInt(sheet.getHeaders().size());
+                for (String header : sheet.getHeaders()) {
+                    out.writeUTF(header);
+                }
+                out.writeInt(sheet.lastRowNumber() + 1);
+                for (int r = 0; r <= sheet.lastRowNumber(); r++) {
+                    if (!sheet.hasRow(r)) {
+                        continue;
+                    }
+                    out.writeInt(r);
+                    out.writeInt(sheet.rowWidth(r));
+                    for (int c = 0; c < sheet.rowWidth(r); c++) {
+                        out.writeUTF(sheet.cell(r, c));
+                    }
+                }
+                out.writeInt(-1);
+            }
+        }
+    }
+
+    // Sheets from the compiled artifact, or null when there is none or the workbook changed after compilation
+    public static Map<String, SheetTable> readIfCurrent(Path workbook) {
+        InputStream resource = CompiledTestData.class.getClassLoader().getResourceAsStream(resourceName(workbook));
+        if (resource == null) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(resource))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                log.warn("⚠️ Ignoring " + resourceName(workbook) + ": unknown format");
+                return null;
+            }
+            long size = in.readLong();
+            long modified = in.readLong();
+            if (size != Files.size(workbook) || modified != Files.getLastModifiedTime(workbook).toMillis()) {
+                log.info("ℹ️ " + workbook.getFileName() + " changed since the build - reading the workbook instead");
+                return null;
+            }
+
+            Map<String, SheetTable> sheets = new HashMap<>();
+            int sheetCount = in.readInt();
+            for (int s = 0; s < sheetCount; s++) {
+                String name = in.readUTF();
+                List<String> headers = new ArrayList<>();
+                for (int h = in.readInt(); h > 0; h--) {
+                    headers.add(in.readUTF());
+                }
+                String[][] cells = new String[in.readInt()][];
+                for (int r = in.readInt(); r >= 0; r = in.readInt()) {
+                    String[] values = new String[in.readInt()];
+                    for (int c = 0; c < values.length; c++) {
+                        values[c] = in.readUTF();
+                    }
+                    cells[r] = values;
+                }
+                sheets.put(name, new SheetTable(name, headers, cells));
+            }
+            return sheets;
+
+        } catch (IOException e) {
+            log.warn("⚠️ Could not read " + resourceName(workbook) + ": " + e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package utils;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Reads src/test/resources/config.properties once per JVM.
+ * A system property with the same key (-Dkey=value) always wins over the file.
+ */
+public final class ConfigReader {
+
+    private static final String CONFIG_PATH = "src/test/resources/config.properties";
+    private static final Properties PROPERTIES = load();
+
+    private ConfigReader() {
+    }
+
+    private static Properties load() {
+        Properties properties = new Properties();
+        try (InputStream in = new FileInputStream(CONFIG_PATH)) {
+            properties.load(in);
+        } catch (IOException e) {
+            // Plain stdout: Log reads its own settings through this class
+            System.out.println("⚠️ Could not read " + CONFIG_PATH + " - using defaults: " + e.getMessage());
+        }
+        return properties;
+    }
+
+    // Keys defined in config.properties
+    public static Set<String> keys() {
+        return PROPERTIES.stringPropertyNames();
+    }
+
+    public static String get(String key) {
+        return get(key, null);
+    }
+
+    public static String get(String key, String defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null) {
+            value = PROPERTIES.getProperty(key);
+        }
+        return value != null && !value.trim().isEmpty() ? value.trim() : defaultValue;
+    }
+
+    public static int getInt(String key, int defaultValue) {
+        String value = get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            System.out.println("⚠️ Invalid number for '" + key + "': " + value + " - using " + defaultValue);
+            return defaultValue;
+        }
+    }
+
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        String value = get(key);
+        return value != null ? Boolean.parseBoolean(value) : defaultValue;
+    }
+}
@@ -0,0 +1,116 @@
+package utils;
+
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+
+/**
+ * Creates new browser sessions from config.properties (-Dkey=value overrides any key).
+ * Only the driver pool should call this directly.
+ *
+ * Config keys: browser (firefox | chrome), headless, windowSize (e.g. 1366x768),
+ * pageLoadStrategy (normal | eager | none), disableImages, disableAnimations,
+ * geckoDriverPath / chromeDriverPath (optional - Selenium Manager resolves the driver when unset),
+ * commandTimings (time every WebDriver command, see TimingListener)
+ */
+public final class DriverFactory {
+
+    private DriverFactory() {
+    }
+
+    public static WebDriver createDriver() {
+        String browser = ConfigReader.get("browser", "firefox").toLowerCase();
+        WebDriver driver;
+        switch (browser) {
+            case "firefox":
+                driver = createFirefox();
+                break;
+            case "chrome":
+                driver = createChrome();
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported browser: " + browser);
+        }
+        driver.manage().timeouts().implicitlyWait(WaitPolicy.implicitWait());
+        if (ConfigReader.getBoolean("commandTimings", true)) {
+            driver = new EventFiringDecorator<>(new TimingListener()).decorate(driver);
+        }
+        return driver;
+    }
+
+    private static WebDriver createFirefox() {
+        String driverPath = ConfigReader.get("geckoDriverPath");
+        if (driverPath != null) {
+            System.setProperty("webdriver.gecko.driver", driverPath);
+        }
+
+        FirefoxOptions options = new FirefoxOptions();
+        options.setPageLoadStrategy(pageLoadStrategy());
+        if (isHeadless()) {
+            options.addArguments("-headless");
+        }
+        int[] size = windowSize();
+        options.addArguments("--width=" + size[0], "--height=" + size[1]);
+        if (ConfigReader.getBoolean("disableImages", false)) {
+            options.addPreference("permissions.default.image", 2);
+        }
+        if (ConfigReader.getBoolean("disableAnimations", true)) {
+            options.addPreference("ui.prefersReducedMotion", 1);
+            options.addPreference("toolkit.cosmeticAnimations.enabled", false);
+        }
+        return new FirefoxDriver(options);
+    }
+
+    private static WebDriver createChrome() {
+        String driverPath = ConfigReader.get("chromeDriverPath");
+        if (driverPath != null) {
+            System.setProperty("webdriver.chrome.driver", driverPath);
+        }
+
+        ChromeOptions options = new ChromeOptions();
+        options.setPageLoadStrategy(pageLoadStrategy());
+        if (isHeadless()) {
+            options.addArguments("--headless=new");
+        }
+        int[] size = windowSize();
+        options.addArguments("--window-size=" + size[0] + "," + size[1]);
+        // CI containers often have a tiny /dev/shm that crashes Chrome tabs
+        options.addArguments("--disable-dev-shm-usage");
+        if (ConfigReader.getBoolean("disableImages", false)) {
+            options.addArguments("--blink-settings=imagesEnabled=false");
+        }
+        if (ConfigReader.getBoolean("disableAnimations", true)) {
+            options.addArguments("--force-prefers-reduced-motion");
+        }
+        return new ChromeDriver(options);
+    }
+
+    private static boolean isHeadless() {
+        return ConfigReader.getBoolean("headless", false);
+    }
+
+    private static PageLoadStrategy pageLoadStrategy() {
+        String strategy = ConfigReader.get("pageLoadStrategy", "normal");
+        for (PageLoadStrategy candidate : PageLoadStrategy.values()) {
+            if (candidate.toString().equalsIgnoreCase(strategy)) {
+                return candidate;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported pageLoadStrategy: " + strategy);
+    }
+
+    // Parses "WIDTHxHEIGHT"
+    private static int[] windowSize() {
+        String size = ConfigReader.get("windowSize", "1366x768");
+        String[] parts = size.toLowerCase().split("x");
+        try {
+            return new int[] { Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()) };
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("windowSize must look like 1366x768, got: " + size, e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package utils;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Thread-confined WebDriver registry.
+ * Each scenario thread gets its own browser so scenarios can run in parallel.
+ * After leaseOnDemand() the browser is only leased from DriverPool when a step first asks for it,
+ * so scenarios made of browser-free steps never start one.
+ */
+public final class DriverManager {
+
+    private static final ThreadLocal<WebDriver> DRIVER = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> ON_DEMAND = new ThreadLocal<>();
+
+    private DriverManager() {
+    }
+
+    // Returns the driver bound to the current thread, leasing one first when armed by leaseOnDemand()
+    public static WebDriver getDriver() {
+        WebDriver driver = DRIVER.get();
+        if (driver == null && ON_DEMAND.get() != null) {
+            ON_DEMAND.remove();
+            driver = DriverPool.getInstance().lease();
+            DRIVER.set(driver);
+        }
+        return driver;
+    }
+
+    // Returns the driver bound to the current thread without leasing one (null if none)
+    public static WebDriver peekDriver() {
+        return DRIVER.get();
+    }
+
+    // The next getDriver() on this thread leases a browser from DriverPool
+    public static void leaseOnDemand() {
+        ON_DEMAND.set(Boolean.TRUE);
+    }
+
+    // Binds a driver to the current thread
+    public static void setDriver(WebDriver driver) {
+        DRIVER.set(driver);
+    }
+
+    // Removes the driver (or a pending lease) from the current thread without quitting it
+    public static void unload() {
+        DRIVER.remove();
+        ON_DEMAND.remove();
+    }
+}
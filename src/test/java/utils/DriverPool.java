@@ -0,0 +1,208 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Bounded pool of warm browser sessions.
+ *
+ * A scenario leases a session in @Before and hands it back in @After. Returned sessions are
+ * wiped (alerts, extra windows, cookies, storage, about:blank) so the next scenario starts clean.
+ * A session is quit instead of reused once it has served driverMaxUses scenarios, or when it
+ * fails a health check or a reset.
+ *
+ * Config keys: driverPoolSize, driverPoolWarmUp, driverMaxUses
+ */
+public final class DriverPool {
+    private static final Log log = Log.get(DriverPool.class);
+
+    private static volatile DriverPool instance;
+
+    private final int maxSize;
+    private final int maxUses;
+    private final Semaphore permits;
+    private final BlockingQueue<PooledDriver> idle = new LinkedBlockingQueue<>();
+    private final Map<WebDriver, PooledDriver> leased = new ConcurrentHashMap<>();
+
+    private DriverPool(int maxSize, int maxUses) {
+        this.maxSize = maxSize;
+        this.maxUses = maxUses;
+        this.permits = new Semaphore(maxSize, true);
+    }
+
+    public static DriverPool getInstance() {
+        if (instance == null) {
+            synchronized (DriverPool.class) {
+                if (instance == null) {
+                    int size = ConfigReader.getInt("driverPoolSize", Runtime.getRuntime().availableProcessors());
+                    int maxUses = ConfigReader.getInt("driverMaxUses", 20);
+                    instance = new DriverPool(Math.max(1, size), Math.max(1, maxUses));
+                }
+            }
+        }
+        return instance;
+    }
+
+    // Starts up to 'count' sessions concurrently so the first scenarios do not pay the launch cost
+    public void warmUp(int count) {
+        int target = Math.min(count, maxSize) - idle.size();
+        if (target <= 0) {
+            return;
+        }
+
+        ExecutorService launcher = Executors.newFixedThreadPool(target);
+        try {
+            List<Future<WebDriver>> launches = new ArrayList<>();
+            for (int i = 0; i < target; i++) {
+                launches.add(launcher.submit(DriverFactory::createDriver));
+            }
+            for (Future<WebDriver> launch : launches) {
+                try {
+                    idle.offer(new PooledDriver(launch.get()));
+                } catch (Exception e) {
+                    log.warn("⚠️ Could not pre-warm browser: " + e.getMessage());
+                }
+            }
+            log.info("🔥 Driver pool warmed with " + idle.size() + " browser(s)");
+        } finally {
+            launcher.shutdown();
+        }
+    }
+
+    // Blocks until a session is available, reusing an idle one when possible
+    public WebDriver lease() {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a browser", e);
+        }
+
+        try {
+            PooledDriver pooled;
+            while ((pooled = idle.poll()) != null) {
+                if (isHealthy(pooled.driver)) {
+                    break;
+                }
+                log.info("♻️ Evicting unhealthy browser from pool");
+                quitQuietly(pooled.driver);
+            }
+            if (pooled == null) {
+                pooled = new PooledDriver(DriverFactory.createDriver());
+            }
+            leased.put(pooled.driver, pooled);
+            return pooled.driver;
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    // Returns a session to the pool; it is recycled when worn out or when the reset fails
+    public void release(WebDriver driver) {
+        PooledDriver pooled = leased.remove(driver);
+        if (pooled == null) {
+            quitQuietly(driver);
+            return;
+        }
+
+        try {
+            pooled.uses++;
+            if (pooled.uses >= maxUses) {
+                log.info("♻️ Recycling browser after " + pooled.uses + " scenarios");
+                quitQuietly(driver);
+            } else if (reset(driver)) {
+                idle.offer(pooled);
+            } else {
+                log.info("♻️ Evicting browser that could not be reset");
+                quitQuietly(driver);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    // Drops a leased session without reusing it (e.g. the browser crashed)
+    public void evict(WebDriver driver) {
+        if (leased.remove(driver) != null) {
+            permits.release();
+        }
+        quitQuietly(driver);
+    }
+
+    public void shutdown() {
+        PooledDriver pooled;
+        while ((pooled = idle.poll()) != null) {
+            quitQuietly(pooled.driver);
+        }
+        for (WebDriver driver : leased.keySet()) {
+            evict(driver);
+        }
+    }
+
+    private boolean reset(WebDriver driver) {
+        try {
+            try {
+                driver.switchTo().alert().dismiss();
+            } catch (NoAlertPresentException ignored) {
+                // Nothing to dismiss
+            }
+
+            // Close any windows the scenario opened and go back to the first one
+            String main = driver.getWindowHandles().iterator().next();
+            for (String handle : driver.getWindowHandles()) {
+                if (!handle.equals(main)) {
+                    driver.switchTo().window(handle).close();
+                }
+            }
+            driver.switchTo().window(main);
+
+            driver.manage().deleteAllCookies();
+            ((JavascriptExecutor) driver).executeScript(
+                "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            driver.get("about:blank");
+            return true;
+        } catch (Exception e) {
+            log.warn("⚠️ Browser reset failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private void quitQuietly(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            log.warn("⚠️ Error while quitting browser: " + e.getMessage());
+        }
+    }
+
+    private static final class PooledDriver {
+        final WebDriver driver;
+        int uses;
+
+        PooledDriver(WebDriver driver) {
+            this.driver = driver;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package utils;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+import org.openqa.selenium.support.pagefactory.Annotations;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+import org.openqa.selenium.support.pagefactory.ElementLocatorFactory;
+
+/**
+ * Locator cache for one page object: each locator is found once per page load.
+ *
+ * get() hands out a stable WebElement that looks the element up on first use and then keeps the
+ * reference. Every element of a previous document is stale, so the first StaleElementReferenceException
+ * marks a new page load: all cached references are dropped and the call is retried once on a fresh
+ * lookup. invalidate() does the same eagerly after an action that is known to navigate.
+ *
+ * Only cache locators that always mean the same node on a page (form fields, buttons, containers);
+ * text-based probes should keep using Waits. Like the page objects, an instance is confined to the
+ * scenario's thread.
+ */
+public final class ElementCache {
+    private static final Log log = Log.get(ElementCache.class);
+
+    private final WebDriver driver;
+    private final Function<By, WebElement> finder;
+    private final Map<By, WebElement> found = new HashMap<>();
+    private final Map<By, WebElement> handles = new HashMap<>();
+    private int pageLoads;
+
+    public ElementCache(WebDriver driver) {
+        this(driver, driver::findElement);
+    }
+
+    // finder resolves a locator, e.g. with an explicit wait for presence
+    public ElementCache(WebDriver driver, Function<By, WebElement> finder) {
+        this.driver = driver;
+        this.finder = finder;
+    }
+
+    // Cached, self-healing reference; the lookup happens on first use
+    public WebElement get(By locator) {
+        return handles.computeIfAbsent(locator, this::handle);
+    }
+
+    // Drops every cached reference (the next use of each element finds it again)
+    public void invalidate() {
+        if (!found.isEmpty()) {
+            pageLoads++;
+            found.clear();
+        }
+    }
+
+    // Page loads seen so far (cache generations), for diagnostics
+    public int getPageLoads() {
+        return pageLoads;
+    }
+
+    // For PageFactory.initElements: @FindBy fields resolve through this cache
+    public ElementLocatorFactory locatorFactory() {
+        return field -> {
+            By locator = new Annotations(field).buildBy();
+            return new ElementLocator() {
+                @Override
+                public WebElement findElement() {
+                    return get(locator);
+                }
+
+                @Override
+                public List<WebElement> findElements() {
+                    // Lists change with the page content, so they are not cached
+                    return driver.findElements(locator);
+                }
+            };
+        };
+    }
+
+    private WebElement resolve(By locator) {
+        return found.computeIfAbsent(locator, finder);
+    }
+
+    private WebElement handle(By locator) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getWrappedElement":
+                    return resolve(locator);
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Cached element [" + locator + "]";
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(resolve(locator), args);
+            } catch (InvocationTargetException e) {
+                if (!(e.getCause() instanceof StaleElementReferenceException)) {
+                    throw e.getCause();
+                }
+            }
+            // The page was reloaded or the node replaced: start a new page load and retry once
+            log.debug("♻️ Stale element " + locator + ", finding it again");
+            invalidate();
+            try {
+                return method.invoke(resolve(locator), args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+        return (WebElement) Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class<?>[] {WebElement.class, WrapsElement.class, Locatable.class}, handler);
+    }
+}
@@ -0,0 +1,98 @@
+package utils;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * One row of the enquiry_module sheet.
+ *
+ * A row expects either an error (ExpectedErrorField and ExpectedErrorText both set) or a success
+ * message; anything else is rejected when the sheet is bound.
+ */
+public final class EnquiryRow {
+
+    static final List<String> COLUMNS = Arrays.asList(
+        "Name", "Email", "Phone", "Subject", "Message", "ExpectedErrorField", "ExpectedErrorText", "ExpectedSuccessText");
+
+    private final int rowNumber;
+    private final String name;
+    private final String email;
+    private final String phone;
+    private final String subject;
+    private final String message;
+    private final String expectedErrorField;
+    private final String expectedErrorText;
+    private final String expectedSuccessText;
+
+    private EnquiryRow(int rowNumber, String[] values) {
+        this.rowNumber = rowNumber;
+        this.name = values[0];
+        this.email = values[1];
+        this.phone = values[2];
+        this.subject = values[3];
+        this.message = values[4];
+        this.expectedErrorField = values[5].trim();
+        this.expectedErrorText = values[6].trim();
+        this.expectedSuccessText = values[7].trim();
+
+        if (expectedErrorField.isEmpty() != expectedErrorText.isEmpty()) {
+            throw new IllegalStateException("enquiry_module row " + rowNumber
+                + ": ExpectedErrorField and ExpectedErrorText must be set together");
+        }
+        if (expectedErrorField.isEmpty() && expectedSuccessText.isEmpty()) {
+            throw new IllegalStateException("enquiry_module row " + rowNumber
+                + ": expects neither an error nor a success message");
+        }
+    }
+
+    static RowTable<EnquiryRow> bind(SheetTable sheet) {
+        return RowTable.bind(sheet, COLUMNS, EnquiryRow::new);
+    }
+
+    public int getRowNumber() {
+        return rowNumber;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public String getExpectedErrorField() {
+        return expectedErrorField;
+    }
+
+    public String getExpectedErrorText() {
+        return expectedErrorText;
+    }
+
+    public String getExpectedSuccessText() {
+        return expectedSuccessText;
+    }
+
+    public boolean expectsError() {
+        return !expectedErrorField.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "EnquiryRow{row=" + rowNumber + ", name=" + name + ", email=" + email + ", phone=" + phone
+            + ", subject=" + subject + ", message=" + message + ", expectedErrorField=" + expectedErrorField
+            + ", expectedErrorText=" + expectedErrorText + ", expectedSuccessText=" + expectedSuccessText + "}";
+    }
+}
@@ -1,7 +1,5 @@
 package utils;
 
-import java.io.File;
-import java.io.FileInputStream;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.Map;
@@ -9,6 +7,12 @@ import java.util.Map;
 import org.apache.poi.ss.usermodel.*;
 
 public class ExcelReader {
+    private static final Log log = Log.get(ExcelReader.class);
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    // excelMode=streaming: single-row lookups read the sheet via SAX and stop at the row (see TestDataStore)
+    private static final boolean STREAMING = TestDataStore.STREAMING;
 
     // Method 1: Returns a full row of card details as key-value pairs from second row
     public Map<String, String> getCardDetails(String filePath, String sheetName) {
@@ -16,90 +20,81 @@ public class ExcelReader {
     }
 
     // Overloaded Method 1: Returns a specific row of card details as key-value pairs
+    // Served from the parsed-once TestDataStore, so repeated lookups never re-open the workbook
     public Map<String, String> getCardDetails(String filePath, String sheetName, int rowNumber) {
-        Map<String, String> data = new HashMap<>();
+        if (STREAMING) {
+            return getCardDetailsStreaming(filePath, sheetName, rowNumber);
+        }
 
-        try (FileInputStream fis = new FileInputStream(new File(filePath));
-             Workbook workbook = WorkbookFactory.create(fis)) {
+        try {
+            SheetTable sheet = TestDataStore.getSheet(filePath, sheetName);
 
-            Sheet sheet = workbook.getSheet(sheetName);
-            
             if (sheet == null) {
-                System.out.println("❌ Sheet not found: " + sheetName);
-                return data;
+                log.error("❌ Sheet not found: " + sheetName);
+                return new HashMap<>();
             }
-            
-            Row headerRow = sheet.getRow(0); // Header is always at row 0
-            Row dataRow = sheet.getRow(rowNumber); // Control which data row to read
 
-            if (headerRow == null) {
-                System.out.println("❌ Header row not found");
-                return data;
-            }
-            
-            if (dataRow == null) {
-                System.out.println("❌ Data row not found at index: " + rowNumber);
-                return data;
+            if (sheet.getHeaders().isEmpty()) {
+                log.error("❌ Header row not found");
+                return new HashMap<>();
             }
 
-            // Process each column in the header row
-            for (int i = 0; i < headerRow.getLastCellNum(); i++) {
-                Cell headerCell = headerRow.getCell(i);
-                Cell dataCell = dataRow.getCell(i);
+            Map<String, String> data = sheet.row(rowNumber);
+            if (data == null) {
+                log.error("❌ Data row not found at index: " + rowNumber);
+                return new HashMap<>();
+            }
 
-                // Get header name (column name)
-                String columnName = getCellValueAsString(headerCell);
-                
-                // Get data value (handle empty cells gracefully)
-                String cellValue = getCellValueAsString(dataCell);
-                
-                // Store the mapping (empty string if cell is empty)
-                data.put(columnName, cellValue);
-                
-                System.out.println("Column: '" + columnName + "' = '" + cellValue + "'");
+            for (Map.Entry<String, String> column : data.entrySet()) {
+                log.debug("Column: '" + column.getKey() + "' = '" + column.getValue() + "'");
             }
+            return data;
 
         } catch (Exception e) {
-            System.out.println("❌ Error reading Excel file: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error reading Excel file: " + e.getMessage(), e);
+            return new HashMap<>();
         }
+    }
 
-        return data;
+    // Streaming variant of Method 1: constant memory, stops reading once the row is found
+    public Map<String, String> getCardDetailsStreaming(String filePath, String sheetName, int rowNumber) {
+        try {
+            Map<String, String> data = new StreamingExcelReader().findRow(filePath, sheetName, rowNumber);
+            if (data.isEmpty()) {
+                log.error("❌ Data row not found at index: " + rowNumber);
+            }
+            return data;
+        } catch (Exception e) {
+            log.error("❌ Error reading Excel file: " + e.getMessage(), e);
+            return new HashMap<>();
+        }
     }
 
     // Method 2: Reads a specific cell by row and column number
     public String readExcel(String filePath, String sheetName, int rowNum, int cellNum) {
-        String cellValue = "";
+        try {
+            SheetTable sheet = TestDataStore.getSheet(filePath, sheetName);
 
-        try (FileInputStream fis = new FileInputStream(new File(filePath));
-             Workbook workbook = WorkbookFactory.create(fis)) {
-
-            Sheet sheet = workbook.getSheet(sheetName);
-            
             if (sheet == null) {
-                System.out.println("❌ Sheet not found: " + sheetName);
-                return cellValue;
+                log.error("❌ Sheet not found: " + sheetName);
+                return "";
             }
-            
-            Row row = sheet.getRow(rowNum);
-            if (row == null) {
-                System.out.println("⚠️ Row " + rowNum + " is empty");
-                return cellValue;
+
+            if (!sheet.hasRow(rowNum)) {
+                log.warn("⚠️ Row " + rowNum + " is empty");
+                return "";
             }
-            
-            Cell cell = row.getCell(cellNum);
-            cellValue = getCellValueAsString(cell);
+
+            return sheet.cell(rowNum, cellNum);
 
         } catch (Exception e) {
-            System.out.println("❌ Error reading cell [" + rowNum + "," + cellNum + "]: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error reading cell [" + rowNum + "," + cellNum + "]: " + e.getMessage(), e);
+            return "";
         }
-
-        return cellValue;
     }
 
     // Helper method to convert any cell to String (handles null and empty cells)
-    private String getCellValueAsString(Cell cell) {
+    static String getCellValueAsString(Cell cell) {
         // Handle null cells
         if (cell == null) {
             return ""; // Return empty string for null cells
@@ -115,10 +110,9 @@ public class ExcelReader {
                 if (DateUtil.isCellDateFormatted(cell)) {
                     try {
                         // Format date as dd/MM/yyyy
-                        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-                        return formatter.format(cell.getLocalDateTimeCellValue().toLocalDate());
+                        return DATE_FORMAT.format(cell.getLocalDateTimeCellValue().toLocalDate());
                     } catch (Exception e) {
-                        System.out.println("⚠️ Error formatting date cell: " + e.getMessage());
+                        log.warn("⚠️ Error formatting date cell: " + e.getMessage());
                         return "";
                     }
                 } else {
@@ -140,7 +134,7 @@ public class ExcelReader {
                     // Try to evaluate the formula
                     return getCellValueAsString(cell.getCachedFormulaResultType(), cell);
                 } catch (Exception e) {
-                    System.out.println("⚠️ Error evaluating formula: " + e.getMessage());
+                    log.warn("⚠️ Error evaluating formula: " + e.getMessage());
                     return "";
                 }
                 
@@ -152,14 +146,13 @@ public class ExcelReader {
     }
     
     // Helper method for handling formula cell results
-    private String getCellValueAsString(CellType cellType, Cell cell) {
+    private static String getCellValueAsString(CellType cellType, Cell cell) {
         switch (cellType) {
             case STRING:
                 return cell.getRichStringCellValue().getString();
             case NUMERIC:
                 if (DateUtil.isCellDateFormatted(cell)) {
-                    DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-                    return formatter.format(cell.getLocalDateTimeCellValue().toLocalDate());
+                    return DATE_FORMAT.format(cell.getLocalDateTimeCellValue().toLocalDate());
                 } else {
                     double numericValue = cell.getNumericCellValue();
                     if (numericValue == (long) numericValue) {
@@ -0,0 +1,41 @@
+package utils;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.AssumptionViolatedException;
+
+/**
+ * Stops a run early once failFast scenarios have failed.
+ *
+ * Hooks reports every failed scenario; once the threshold is reached each following scenario is
+ * skipped in @Before (an assumption failure, so Cucumber and JUnit report it as skipped) before a
+ * browser is leased. Scenarios already running on other threads finish normally.
+ *
+ * Config key: failFast (number of failures, 0 or unset = run everything)
+ */
+public final class FailFast {
+    private static final Log log = Log.get(FailFast.class);
+
+    private static final int THRESHOLD = ConfigReader.getInt("failFast", 0);
+    private static final AtomicInteger FAILURES = new AtomicInteger();
+    private static final AtomicBoolean ANNOUNCED = new AtomicBoolean();
+
+    private FailFast() {
+    }
+
+    public static void recordFailure(String scenarioName) {
+        int failures = FAILURES.incrementAndGet();
+        if (THRESHOLD > 0 && failures >= THRESHOLD && ANNOUNCED.compareAndSet(false, true)) {
+            log.warn("🛑 Fail-fast: " + failures + " failed scenario(s), last '" + scenarioName
+                + "' - skipping the rest of the run");
+        }
+    }
+
+    // Throws AssumptionViolatedException once the failure threshold has been reached
+    public static void checkBeforeScenario(String scenarioName) {
+        if (THRESHOLD > 0 && FAILURES.get() >= THRESHOLD) {
+            throw new AssumptionViolatedException("Skipped by fail-fast (failFast=" + THRESHOLD + "): " + scenarioName);
+        }
+    }
+}
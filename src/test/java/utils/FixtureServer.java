@@ -0,0 +1,134 @@
+package utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Embedded HTTP server that stands in for the FlightBooking web app.
+ *
+ * Serves hand-written approximations of login, index, contactus and search (plus their scripts) from
+ * src/test/resources/fixtures/FlightBooking on 127.0.0.1. Every file is read into memory at
+ * start-up, so a page load never touches the disk or the network.
+ *
+ * Config keys: fixturePort (0 = any free port)
+ */
+public final class FixtureServer {
+    private static final Log log = Log.get(FixtureServer.class);
+
+    public static final String CONTEXT_PATH = "/FlightBooking/";
+    private static final Path FIXTURE_DIR = Paths.get("src/test/resources/fixtures/FlightBooking");
+    private static final FixtureServer INSTANCE = new FixtureServer();
+
+    private final Map<String, byte[]> files = new HashMap<>();
+    private HttpServer server;
+    private ExecutorService executor;
+
+    private FixtureServer() {
+    }
+
+    public static FixtureServer getInstance() {
+        return INSTANCE;
+    }
+
+    // Starts the server once; later calls just return the base URL
+    public synchronized String start() {
+        if (server != null) {
+            return baseUrl();
+        }
+        try {
+            loadFiles();
+            server = HttpServer.create(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), ConfigReader.getInt("fixturePort", 0)), 0);
+            executor = Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "fixture-server");
+                thread.setDaemon(true);
+                return thread;
+            });
+            server.setExecutor(executor);
+            server.createContext(CONTEXT_PATH, this::serve);
+            server.start();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start fixture server: " + e.getMessage(), e);
+        }
+        log.info("🌐 Fixture server started at " + baseUrl() + " (" + files.size() + " files)");
+        return baseUrl();
+    }
+
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(0);
+        executor.shutdownNow();
+        server = null;
+        log.info("🌐 Fixture server stopped");
+    }
+
+    public synchronized boolean isRunning() {
+        return server != null;
+    }
+
+    // e.g. http://127.0.0.1:54321/FlightBooking/
+    public synchronized String baseUrl() {
+        if (server == null) {
+            throw new IllegalStateException("Fixture server is not running");
+        }
+        return "http://127.0.0.1:" + server.getAddress().getPort() + CONTEXT_PATH;
+    }
+
+    private void loadFiles() throws IOException {
+        files.clear();
+        try (Stream<Path> paths = Files.walk(FIXTURE_DIR)) {
+            for (Path path : (Iterable<Path>) paths.filter(Files::isRegularFile)::iterator) {
+                files.put(FIXTURE_DIR.relativize(path).toString().replace('\\', '/'), Files.readAllBytes(path));
+            }
+        }
+    }
+
+    private void serve(HttpExchange exchange) throws IOException {
+        try {
+            String name = exchange.getRequestURI().getPath().substring(CONTEXT_PATH.length());
+            byte[] body = files.get(name.isEmpty() ? "login.html" : name);
+            boolean head = "HEAD".equals(exchange.getRequestMethod());
+
+            if (body == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", contentType(name));
+            // Pooled browsers are reused across scenarios, so let them keep the scripts and styles
+            exchange.getResponseHeaders().set("Cache-Control", "max-age=300");
+            exchange.sendResponseHeaders(200, head ? -1 : body.length);
+            if (!head) {
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static String contentType(String name) {
+        if (name.endsWith(".js")) {
+            return "application/javascript; charset=utf-8";
+        }
+        if (name.endsWith(".css")) {
+            return "text/css; charset=utf-8";
+        }
+        return "text/html; charset=utf-8";
+    }
+}
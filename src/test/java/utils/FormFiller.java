@@ -0,0 +1,64 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Fills a whole form in one executeScript round trip.
+ *
+ * Each field is focused, given its value and sent the same focus/input/change/blur events the
+ * per-field typing helpers dispatch, in the order given. Text inputs get their value assigned
+ * directly; selects pick the option whose visible text matches (empty value keeps the default).
+ */
+public final class FormFiller {
+
+    private static final String FILL_SCRIPT =
+        "var fields = arguments[0], problems = [];" +
+        "function fire(el, type) { el.dispatchEvent(new Event(type, { bubbles: true })); }" +
+        "for (var i = 0; i < fields.length; i++) {" +
+        "  var id = fields[i][0], value = fields[i][1] == null ? '' : String(fields[i][1]);" +
+        "  var el = document.getElementById(id);" +
+        "  if (!el) { problems.push(id + ': not found'); continue; }" +
+        "  el.focus(); fire(el, 'focus');" +
+        "  if (el.tagName === 'SELECT') {" +
+        "    if (value !== '') {" +
+        "      var matched = false;" +
+        "      for (var j = 0; j < el.options.length; j++) {" +
+        "        if (el.options[j].text.trim() === value.trim()) { el.selectedIndex = j; matched = true; break; }" +
+        "      }" +
+        "      if (!matched) { problems.push(id + ': no option \"' + value + '\"'); }" +
+        "    }" +
+        "  } else {" +
+        "    el.value = value;" +
+        "  }" +
+        "  fire(el, 'input'); fire(el, 'change'); fire(el, 'blur'); el.blur();" +
+        "}" +
+        "return problems;";
+
+    private FormFiller() {
+    }
+
+    // Fills fields (element id -> value, in iteration order); returns a description of every field that could not be set
+    public static List<String> fill(WebDriver driver, Map<String, String> valuesById) {
+        List<List<String>> fields = new ArrayList<>();
+        for (Map.Entry<String, String> field : valuesById.entrySet()) {
+            fields.add(Arrays.asList(field.getKey(), field.getValue() != null ? field.getValue() : ""));
+        }
+
+        Object result = ((JavascriptExecutor) driver).executeScript(FILL_SCRIPT, fields);
+        if (!(result instanceof List)) {
+            return Collections.emptyList();
+        }
+        List<String> problems = new ArrayList<>();
+        for (Object problem : (List<?>) result) {
+            problems.add(String.valueOf(problem));
+        }
+        return problems;
+    }
+}
@@ -0,0 +1,158 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Immutable picture of a form taken with a single executeScript call.
+ *
+ * It holds every field's value (the selected option text for selects), CSS class and HTML5
+ * validationMessage, the text and HTML of the given message containers, and the visible texts of
+ * all elements matching an error XPath. Validation steps assert against it instead of issuing one
+ * findElement/getAttribute/getText round trip per check.
+ */
+public final class FormSnapshot {
+
+    private static final String CAPTURE_SCRIPT =
+        "var ids = arguments[0], containerIds = arguments[1], errorXPath = arguments[2];" +
+        "var fields = {}, containers = {}, errors = [];" +
+        "function visible(el) { return !!(el.offsetWidth || el.offsetHeight || el.getClientRects().length); }" +
+        "for (var i = 0; i < ids.length; i++) {" +
+        "  var el = document.getElementById(ids[i]);" +
+        "  if (!el) { continue; }" +
+        "  var value = el.tagName === 'SELECT'" +
+        "    ? (el.selectedIndex >= 0 ? el.options[el.selectedIndex].text : '')" +
+        "    : el.value;" +
+        "  fields[ids[i]] = [value || '', el.className || '', el.validationMessage || ''];" +
+        "}" +
+        "for (var c = 0; c < containerIds.length; c++) {" +
+        "  var box = document.getElementById(containerIds[c]);" +
+        "  if (box) { containers[containerIds[c]] = [box.innerText || '', box.innerHTML || '']; }" +
+        "}" +
+        "if (errorXPath) {" +
+        "  var found = document.evaluate(errorXPath, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+        "  for (var e = 0; e < found.snapshotLength; e++) {" +
+        "    var node = found.snapshotItem(e);" +
+        "    var text = (node.innerText || '').trim();" +
+        "    if (text && visible(node)) { errors.push(text); }" +
+        "  }" +
+        "}" +
+        "return { fields: fields, containers: containers, errors: errors };";
+
+    private final Map<String, String> values;
+    private final Map<String, String> classNames;
+    private final Map<String, String> validationMessages;
+    private final Map<String, String> containerTexts;
+    private final Map<String, String> containerHtml;
+    private final List<String> errorTexts;
+
+    private FormSnapshot(Map<String, String> values, Map<String, String> classNames,
+                         Map<String, String> validationMessages, Map<String, String> containerTexts,
+                         Map<String, String> containerHtml, List<String> errorTexts) {
+        this.values = Collections.unmodifiableMap(values);
+        this.classNames = Collections.unmodifiableMap(classNames);
+        this.validationMessages = Collections.unmodifiableMap(validationMessages);
+        this.containerTexts = Collections.unmodifiableMap(containerTexts);
+        this.containerHtml = Collections.unmodifiableMap(containerHtml);
+        this.errorTexts = Collections.unmodifiableList(errorTexts);
+    }
+
+    // Captures the given fields and message containers plus the visible texts of elements matching errorXPath (may be null)
+    public static FormSnapshot capture(WebDriver driver, List<String> fieldIds, List<String> containerIds, String errorXPath) {
+        Object raw = ((JavascriptExecutor) driver).executeScript(CAPTURE_SCRIPT, fieldIds, containerIds, errorXPath);
+        Map<?, ?> result = raw instanceof Map ? (Map<?, ?>) raw : Collections.emptyMap();
+
+        Map<String, String> values = new LinkedHashMap<>();
+        Map<String, String> classNames = new LinkedHashMap<>();
+        Map<String, String> validationMessages = new LinkedHashMap<>();
+        for (Map.Entry<?, ?> field : asMap(result.get("fields")).entrySet()) {
+            List<?> parts = (List<?>) field.getValue();
+            String id = String.valueOf(field.getKey());
+            values.put(id, String.valueOf(parts.get(0)));
+            classNames.put(id, String.valueOf(parts.get(1)));
+            validationMessages.put(id, String.valueOf(parts.get(2)));
+        }
+
+        Map<String, String> containerTexts = new LinkedHashMap<>();
+        Map<String, String> containerHtml = new LinkedHashMap<>();
+        for (Map.Entry<?, ?> container : asMap(result.get("containers")).entrySet()) {
+            List<?> parts = (List<?>) container.getValue();
+            String id = String.valueOf(container.getKey());
+            containerTexts.put(id, String.valueOf(parts.get(0)).trim());
+            containerHtml.put(id, String.valueOf(parts.get(1)).trim());
+        }
+
+        List<String> errorTexts = new ArrayList<>();
+        Object errors = result.get("errors");
+        if (errors instanceof List) {
+            for (Object error : (List<?>) errors) {
+                errorTexts.add(String.valueOf(error));
+            }
+        }
+
+        return new FormSnapshot(values, classNames, validationMessages, containerTexts, containerHtml, errorTexts);
+    }
+
+    private static Map<?, ?> asMap(Object value) {
+        return value instanceof Map ? (Map<?, ?>) value : Collections.emptyMap();
+    }
+
+    // True when the field was found on the page
+    public boolean hasField(String id) {
+        return values.containsKey(id);
+    }
+
+    // Field value, or the selected option text for a select ("" if the field is missing)
+    public String value(String id) {
+        return values.getOrDefault(id, "");
+    }
+
+    public boolean isBlank(String id) {
+        return value(id).trim().isEmpty();
+    }
+
+    public String className(String id) {
+        return classNames.getOrDefault(id, "");
+    }
+
+    // HTML5 constraint validation message of a field ("" when valid or missing)
+    public String validationMessage(String id) {
+        return validationMessages.getOrDefault(id, "");
+    }
+
+    // Visible text of a message container ("" if missing)
+    public String containerText(String id) {
+        return containerTexts.getOrDefault(id, "");
+    }
+
+    // Inner HTML of a message container, e.g. to keep <br> separators ("" if missing)
+    public String containerHtml(String id) {
+        return containerHtml.getOrDefault(id, "");
+    }
+
+    // Visible, non-empty texts of all elements matching the error XPath
+    public List<String> getErrorTexts() {
+        return errorTexts;
+    }
+
+    // True when any visible error element contains the expected text
+    public boolean hasErrorContaining(String expected) {
+        for (String text : errorTexts) {
+            if (text.contains(expected)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "FormSnapshot{values=" + values + ", containers=" + containerTexts + ", errors=" + errorTexts + "}";
+    }
+}
@@ -0,0 +1,108 @@
+package utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    private static final int TOP_INDEX = 3711;
+
+    @Test
+    public void mapsValuesBelow128OneToOne() {
+        for (int value = 0; value < 128; value++) {
+            assertEquals(value, LatencyHistogram.indexOf(value));
+            assertEquals(value, LatencyHistogram.highestValueIn(value));
+        }
+    }
+
+    @Test
+    public void startsANewRunOfBucketsAtEveryPowerOfTwo() {
+        assertEquals(128, LatencyHistogram.indexOf(128));
+        assertEquals(191, LatencyHistogram.indexOf(255));
+        assertEquals(192, LatencyHistogram.indexOf(256));
+        for (int power = 7; power < 63; power++) {
+            long value = 1L << power;
+            assertEquals("2^" + power, (power - 5) * 64, LatencyHistogram.indexOf(value));
+            assertEquals("2^" + power + " - 1", (power - 5) * 64 - 1, LatencyHistogram.indexOf(value - 1));
+            assertEquals("2^" + power + " + 1", LatencyHistogram.indexOf(value), LatencyHistogram.indexOf(value + 1));
+        }
+    }
+
+    @Test
+    public void fitsLongMaxValueInsideTheArray() {
+        assertEquals(TOP_INDEX, LatencyHistogram.indexOf(Long.MAX_VALUE));
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.highestValueIn(TOP_INDEX));
+        assertTrue(TOP_INDEX < 64 * 64);
+    }
+
+    @Test
+    public void coversEveryValueWithContiguousBuckets() {
+        for (int index = 0; index < TOP_INDEX; index++) {
+            long highest = LatencyHistogram.highestValueIn(index);
+            assertEquals("highest value of bucket " + index, index, LatencyHistogram.indexOf(highest));
+            assertEquals("first value after bucket " + index, index + 1, LatencyHistogram.indexOf(highest + 1));
+        }
+    }
+
+    @Test
+    public void keepsBucketsWithin1Point6Percent() {
+        for (int index = 128; index <= TOP_INDEX; index++) {
+            long lowest = LatencyHistogram.highestValueIn(index - 1) + 1;
+            long width = LatencyHistogram.highestValueIn(index) - lowest + 1;
+            assertTrue("bucket " + index + " is " + width + " wide from " + lowest, width <= lowest / 64);
+        }
+    }
+
+    @Test
+    public void reportsPercentilesWithinTheBucketError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int micros = 1; micros <= 10_000; micros++) {
+            histogram.recordMicros(micros);
+        }
+
+        assertWithin(5_000, histogram.percentileMicros(50));
+        assertWithin(9_500, histogram.percentileMicros(95));
+        assertWithin(9_900, histogram.percentileMicros(99));
+        assertEquals(1, histogram.percentileMicros(0));
+        assertEquals(10_000, histogram.percentileMicros(100));
+        assertEquals(10_000, histogram.percentileMicros(250));
+        assertEquals(10_000, histogram.getCount());
+        assertEquals(10_000, histogram.getMaxMicros());
+        assertEquals(5_000.5, histogram.getMeanMicros(), 0.0001);
+    }
+
+    @Test
+    public void neverReportsMoreThanTheRecordedMaximum() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordMicros(1_000_001);
+
+        assertEquals(1_000_001, histogram.percentileMicros(50));
+        assertEquals(1_000_001, histogram.percentileMicros(99));
+    }
+
+    @Test
+    public void recordsNanosAsMicrosAndClampsNegativeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordNanos(2_999);
+        histogram.recordMicros(-5);
+
+        assertEquals(2, histogram.getCount());
+        assertEquals(2, histogram.getTotalMicros());
+        assertEquals(0, histogram.percentileMicros(50));
+        assertEquals(2, histogram.percentileMicros(100));
+    }
+
+    @Test
+    public void reportsZeroWhenEmpty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.percentileMicros(50));
+        assertEquals(0, histogram.getMeanMicros(), 0);
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue("expected ~" + expected + " but was " + actual, Math.abs(actual - expected) <= expected / 64);
+    }
+}
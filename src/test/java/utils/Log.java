@@ -0,0 +1,267 @@
+package utils;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Small logging facade with an asynchronous appender.
+ *
+ * Callers only build a log event and put it on a bounded queue; one daemon thread formats the
+ * events, masks secrets and writes them in batches, so parallel scenarios never contend on the
+ * stdout lock. Each line carries the thread and the per-thread context (scenario, row, ...):
+ *
+ *   12:01:02.345 INFO  [pool-1-thread-2] {scenario=Login with various credentials, row=3} LoginPage - Login button clicked
+ *
+ * When the queue is full DEBUG/INFO events are dropped (and counted); WARN/ERROR wait for space.
+ * Values of config keys that look like credentials (password, secret, token) are masked as ****.
+ *
+ * Config keys: logLevel (DEBUG | INFO | WARN | ERROR), logFile (optional, default stdout), logQueueSize
+ */
+public final class Log {
+
+    public enum Level { DEBUG, INFO, WARN, ERROR }
+
+    private static final String MASK = "****";
+    private static final Level THRESHOLD = parseLevel(ConfigReader.get("logLevel", "INFO"));
+    private static final Set<String> SECRETS = new CopyOnWriteArraySet<>();
+    private static final ThreadLocal<Map<String, String>> CONTEXT = ThreadLocal.withInitial(LinkedHashMap::new);
+    private static final Appender APPENDER = new Appender(ConfigReader.get("logFile"), ConfigReader.getInt("logQueueSize", 8192));
+
+    static {
+        for (String key : ConfigReader.keys()) {
+            String lower = key.toLowerCase();
+            if (lower.contains("password") || lower.contains("secret") || lower.contains("token")) {
+                addSecret(ConfigReader.get(key));
+            }
+        }
+    }
+
+    private final String name;
+
+    private Log(String name) {
+        this.name = name;
+    }
+
+    public static Log get(Class<?> type) {
+        return new Log(type.getSimpleName());
+    }
+
+    public boolean isDebugEnabled() {
+        return THRESHOLD == Level.DEBUG;
+    }
+
+    public void debug(String message) {
+        log(Level.DEBUG, message, null);
+    }
+
+    public void info(String message) {
+        log(Level.INFO, message, null);
+    }
+
+    public void warn(String message) {
+        log(Level.WARN, message, null);
+    }
+
+    public void error(String message) {
+        log(Level.ERROR, message, null);
+    }
+
+    public void error(String message, Throwable error) {
+        log(Level.ERROR, message, error);
+    }
+
+    private void log(Level level, String message, Throwable error) {
+        if (level.ordinal() < THRESHOLD.ordinal()) {
+            return;
+        }
+        Map<String, String> context = CONTEXT.get();
+        APPENDER.append(new Event(System.currentTimeMillis(), level, Thread.currentThread().getName(),
+            context.isEmpty() ? null : context.toString(), name, message, error));
+    }
+
+    // --- Per-thread context (shown on every line logged by this thread) ---
+
+    public static void putContext(String key, String value) {
+        CONTEXT.get().put(key, value);
+    }
+
+    public static void removeContext(String key) {
+        CONTEXT.get().remove(key);
+    }
+
+    public static void clearContext() {
+        CONTEXT.remove();
+    }
+
+    // Masks this value wherever it appears in a log line (blank values are ignored)
+    public static void addSecret(String secret) {
+        if (secret != null && !secret.trim().isEmpty()) {
+            SECRETS.add(secret);
+        }
+    }
+
+    // Blocks until every event logged so far has been written, or the timeout passes
+    public static void flush(long timeout, TimeUnit unit) {
+        APPENDER.flush(unit.toNanos(timeout));
+    }
+
+    private static Level parseLevel(String value) {
+        try {
+            return Level.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return Level.INFO;
+        }
+    }
+
+    private static String mask(String text) {
+        String masked = text;
+        for (String secret : SECRETS) {
+            if (masked.contains(secret)) {
+                masked = masked.replace(secret, MASK);
+            }
+        }
+        return masked;
+    }
+
+    private static final class Event {
+        final long time;
+        final Level level;
+        final String thread;
+        final String context;
+        final String logger;
+        final String message;
+        final Throwable error;
+
+        Event(long time, Level level, String thread, String context, String logger, String message, Throwable error) {
+            this.time = time;
+            this.level = level;
+            this.thread = thread;
+            this.context = context;
+            this.logger = logger;
+            this.message = message;
+            this.error = error;
+        }
+    }
+
+    // Single writer thread that drains the queue in batches
+    private static final class Appender implements Runnable {
+        private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+        private static final int BATCH = 256;
+
+        private final BlockingQueue<Event> queue;
+        private final PrintStream out;
+        private final AtomicLong appended = new AtomicLong();
+        private final AtomicLong written = new AtomicLong();
+        private final AtomicLong dropped = new AtomicLong();
+
+        Appender(String logFile, int queueSize) {
+            this.queue = new ArrayBlockingQueue<>(Math.max(16, queueSize));
+            this.out = logFile != null ? openFile(logFile) : System.out;
+
+            Thread writer = new Thread(this, "log-writer");
+            writer.setDaemon(true);
+            writer.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> flush(TimeUnit.SECONDS.toNanos(2)), "log-flush"));
+        }
+
+        private static PrintStream openFile(String logFile) {
+            try {
+                OutputStream file = new FileOutputStream(logFile, true);
+                return new PrintStream(file, false, StandardCharsets.UTF_8.name());
+            } catch (IOException e) {
+                System.out.println("⚠️ Cannot open log file " + logFile + " - logging to stdout: " + e.getMessage());
+                return System.out;
+            }
+        }
+
+        void append(Event event) {
+            if (queue.offer(event)) {
+                appended.incrementAndGet();
+                return;
+            }
+            if (event.level.ordinal() < Level.WARN.ordinal()) {
+                dropped.incrementAndGet();
+                return;
+            }
+            try {
+                queue.put(event);
+                appended.incrementAndGet();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        void flush(long timeoutNanos) {
+            long target = appended.get();
+            long deadline = System.nanoTime() + timeoutNanos;
+            while (written.get() < target && System.nanoTime() < deadline) {
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            List<Event> batch = new ArrayList<>(BATCH);
+            StringBuilder text = new StringBuilder();
+            while (true) {
+                try {
+                    batch.add(queue.take());
+                } catch (InterruptedException e) {
+                    return;
+                }
+                queue.drainTo(batch, BATCH - 1);
+
+                long lost = dropped.getAndSet(0);
+                if (lost > 0) {
+                    text.append(TIME.format(Instant.now())).append(" WARN  [log-writer] Log - ")
+                        .append(lost).append(" DEBUG/INFO message(s) dropped, log queue full").append(System.lineSeparator());
+                }
+                for (Event event : batch) {
+                    format(event, text);
+                }
+                out.print(text);
+                out.flush();
+                written.addAndGet(batch.size());
+                batch.clear();
+                text.setLength(0);
+            }
+        }
+
+        private static void format(Event event, StringBuilder text) {
+            text.append(TIME.format(Instant.ofEpochMilli(event.time))).append(' ')
+                .append(String.format("%-5s", event.level)).append(" [").append(event.thread).append("] ");
+            if (event.context != null) {
+                text.append(event.context).append(' ');
+            }
+            text.append(event.logger).append(" - ").append(mask(String.valueOf(event.message))).append(System.lineSeparator());
+            if (event.error != null) {
+                StringWriter trace = new StringWriter();
+                event.error.printStackTrace(new PrintWriter(trace));
+                text.append(mask(trace.toString()));
+            }
+        }
+    }
+}
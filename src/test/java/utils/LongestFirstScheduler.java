@@ -0,0 +1,171 @@
+package utils;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.runner.Description;
+import org.junit.runners.ParentRunner;
+import org.junit.runners.model.RunnerScheduler;
+
+/**
+ * Runs every scenario of the suite on one thread pool, longest first (see ScheduledCucumber).
+ *
+ * Feature runners get a scheduler from forFeature() that only queues their scenarios. When the
+ * suite's own scheduler finishes, the queue is ordered by the durations recorded in earlier runs
+ * and handed to a fixed pool, so each free thread takes the longest scenario still waiting and the
+ * short ones fill the tail. Scenarios without history are estimated at the median; with no history
+ * at all the feature order is kept.
+ *
+ * After the run the measured durations are folded into the history file and the makespan is
+ * logged against the ideal, max(total work / threads, longest scenario).
+ */
+public final class LongestFirstScheduler implements RunnerScheduler {
+    private static final Log log = Log.get(LongestFirstScheduler.class);
+
+    private final int threads;
+    private final Path historyFile;
+    private final ScenarioDurations history;
+    private final List<Task> pending = new ArrayList<>();
+
+    public LongestFirstScheduler(int threads, Path historyFile) {
+        this.threads = Math.max(1, threads);
+        this.historyFile = historyFile;
+        this.history = ScenarioDurations.load(historyFile);
+    }
+
+    // Scheduler for one feature runner: its scenarios are queued, in order, for the suite pool
+    public RunnerScheduler forFeature(ParentRunner<?> feature) {
+        return new RunnerScheduler() {
+            private int next;
+
+            @Override
+            public void schedule(Runnable scenario) {
+                // ParentRunner schedules its children in description order
+                List<Description> scenarios = feature.getDescription().getChildren();
+                Description description = next < scenarios.size() ? scenarios.get(next) : feature.getDescription();
+                next++;
+                synchronized (pending) {
+                    pending.add(new Task(description.getDisplayName(), scenario));
+                }
+            }
+
+            @Override
+            public void finished() {
+                // Nothing runs here; the suite scheduler drains the queue
+            }
+        };
+    }
+
+    // Feature runners only queue their scenarios, so they run inline
+    @Override
+    public void schedule(Runnable feature) {
+        feature.run();
+    }
+
+    @Override
+    public void finished() {
+        List<Task> tasks;
+        synchronized (pending) {
+            tasks = new ArrayList<>(pending);
+            pending.clear();
+        }
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        long fallback = Math.max(history.median(), 0);
+        for (Task task : tasks) {
+            long known = history.get(task.key);
+            task.estimate = known >= 0 ? known : fallback;
+        }
+        // Stable sort: equal estimates keep the feature order
+        tasks.sort(Comparator.comparingLong((Task task) -> task.estimate).reversed());
+
+        int poolSize = Math.min(threads, tasks.size());
+        log.info("🗓️ Scheduling " + tasks.size() + " scenario(s) longest-first on " + poolSize + " thread(s)"
+            + (history.isEmpty() ? " (no duration history yet, keeping feature order)" : " from " + historyFile));
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "scenario-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long started = System.nanoTime();
+        for (Task task : tasks) {
+            pool.execute(task);
+        }
+        pool.shutdown();
+        try {
+            pool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            pool.shutdownNow();
+            Thread.currentThread().interrupt();
+            log.warn("⚠️ Interrupted while waiting for scheduled scenarios");
+        }
+        long makespan = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        report(tasks, poolSize, makespan);
+        if (!Boolean.parseBoolean(ConfigReader.get("cucumber.execution.dry-run", "false"))) {
+            for (Task task : tasks) {
+                if (task.millis >= 0) {
+                    history.record(task.key, task.millis);
+                }
+            }
+            history.save(historyFile);
+        }
+    }
+
+    private void report(List<Task> tasks, int poolSize, long makespan) {
+        long work = 0;
+        long longest = 0;
+        for (Task task : tasks) {
+            work += Math.max(task.millis, 0);
+            longest = Math.max(longest, task.millis);
+        }
+        long ideal = Math.max((work + poolSize - 1) / poolSize, longest);
+        long idle = Math.max(makespan * poolSize - work, 0);
+        String efficiency = makespan == 0 ? "100" : String.valueOf(Math.min(100, ideal * 100 / makespan));
+
+        log.info("⏱️ Makespan " + seconds(makespan) + " vs ideal " + seconds(ideal) + " (" + efficiency + "%), "
+            + seconds(work) + " of scenario work on " + poolSize + " thread(s), " + seconds(idle) + " idle");
+        if (!tasks.isEmpty()) {
+            Task slowest = tasks.stream().max(Comparator.comparingLong((Task task) -> task.millis)).get();
+            log.info("   longest: " + slowest.key + " " + seconds(slowest.millis));
+        }
+    }
+
+    private static String seconds(long millis) {
+        return String.format("%.1f s", millis / 1000.0);
+    }
+
+    private static final class Task implements Runnable {
+        final String key;
+        final Runnable scenario;
+        long estimate;
+        volatile long millis = -1;
+
+        Task(String key, Runnable scenario) {
+            this.key = key;
+            this.scenario = scenario;
+        }
+
+        @Override
+        public void run() {
+            long started = System.nanoTime();
+            try {
+                scenario.run();
+            } catch (Throwable e) {
+                log.error("❌ Scheduled scenario failed outside the runner: " + key, e);
+            } finally {
+                millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package utils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Text search that runs in the browser instead of shipping getPageSource() over the wire.
+ *
+ * One executeScript call walks the document body with a TreeWalker: text nodes (outside script and
+ * style) and the text-bearing attributes that the page source would also show (placeholder, title,
+ * alt, aria-label, value). Only the first match comes back, with the phrase that matched, the text
+ * around it, where it is and whether it is visible; a visible match is preferred over a hidden one.
+ */
+public final class PageText {
+
+    private static final String FIND_SCRIPT =
+        "var phrases = arguments[0], ignoreCase = arguments[1], needles = [];" +
+        "for (var p = 0; p < phrases.length; p++) { needles.push(ignoreCase ? phrases[p].toLowerCase() : phrases[p]); }" +
+        "var ATTRIBUTES = ['placeholder', 'title', 'alt', 'aria-label', 'value'];" +
+        "function visible(el) { return !!(el.offsetWidth || el.offsetHeight || el.getClientRects().length); }" +
+        "function path(el) {" +
+        "  var parts = [];" +
+        "  while (el && el.nodeType === 1 && parts.length < 4) {" +
+        "    var part = el.tagName.toLowerCase();" +
+        "    if (el.id) { parts.unshift(part + '#' + el.id); break; }" +
+        "    if (typeof el.className === 'string' && el.className.trim()) { part += '.' + el.className.trim().split(/\\s+/).join('.'); }" +
+        "    parts.unshift(part);" +
+        "    el = el.parentElement;" +
+        "  }" +
+        "  return parts.join(' > ');" +
+        "}" +
+        "function match(text) {" +
+        "  var haystack = ignoreCase ? text.toLowerCase() : text;" +
+        "  for (var i = 0; i < needles.length; i++) { if (haystack.indexOf(needles[i]) >= 0) { return i; } }" +
+        "  return -1;" +
+        "}" +
+        "var root = document.body || document.documentElement, hidden = null;" +
+        "var walker = document.createTreeWalker(root, NodeFilter.SHOW_ELEMENT | NodeFilter.SHOW_TEXT, { acceptNode: function (node) {" +
+        "  var tag = node.nodeType === 1 ? node.tagName : node.parentNode && node.parentNode.tagName;" +
+        "  return tag === 'SCRIPT' || tag === 'STYLE' || tag === 'NOSCRIPT' ? NodeFilter.FILTER_REJECT : NodeFilter.FILTER_ACCEPT;" +
+        "} });" +
+        "for (var node = walker.currentNode; node; node = walker.nextNode()) {" +
+        "  var el = node.nodeType === 1 ? node : node.parentElement, texts = [];" +
+        "  if (node.nodeType === 3) { texts.push([node.data, '']); }" +
+        "  else { for (var a = 0; a < ATTRIBUTES.length; a++) { var value = node.getAttribute(ATTRIBUTES[a]); if (value) { texts.push([value, '[' + ATTRIBUTES[a] + ']']); } } }" +
+        "  for (var t = 0; t < texts.length; t++) {" +
+        "    var index = match(texts[t][0]);" +
+        "    if (index < 0) { continue; }" +
+        "    var found = [phrases[index], texts[t][0].trim().substring(0, 200), path(el) + texts[t][1], visible(el)];" +
+        "    if (found[3]) { return found; }" +
+        "    if (!hidden) { hidden = found; }" +
+        "  }" +
+        "}" +
+        "return hidden;";
+
+    private PageText() {
+    }
+
+    // First text on the page containing any of the phrases (case-sensitive)
+    public static Optional<Match> find(WebDriver driver, String... phrases) {
+        return find(driver, false, phrases);
+    }
+
+    public static Optional<Match> find(WebDriver driver, boolean ignoreCase, String... phrases) {
+        Object result = ((JavascriptExecutor) driver).executeScript(FIND_SCRIPT, Arrays.asList(phrases), ignoreCase);
+        if (!(result instanceof List) || ((List<?>) result).size() < 4) {
+            return Optional.empty();
+        }
+        List<?> found = (List<?>) result;
+        return Optional.of(new Match(String.valueOf(found.get(0)), String.valueOf(found.get(1)),
+            String.valueOf(found.get(2)), Boolean.TRUE.equals(found.get(3))));
+    }
+
+    /** One hit: the phrase that matched, the (trimmed) text it was found in, its location and visibility. */
+    public static final class Match {
+        private final String phrase;
+        private final String text;
+        private final String location;
+        private final boolean visible;
+
+        private Match(String phrase, String text, String location, boolean visible) {
+            this.phrase = phrase;
+            this.text = text;
+            this.location = location;
+            this.visible = visible;
+        }
+
+        public String getPhrase() {
+            return phrase;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        // Short CSS-like path of the containing element, e.g. "div#errfn > span", plus "[placeholder]" for attributes
+        public String getLocation() {
+            return location;
+        }
+
+        public boolean isVisible() {
+            return visible;
+        }
+
+        @Override
+        public String toString() {
+            return "'" + phrase + "' in " + location + (visible ? "" : " (hidden)");
+        }
+    }
+}
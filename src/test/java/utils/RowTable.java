@@ -0,0 +1,99 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Typed, immutable view of a sheet: one bound object per non-blank data row.
+ *
+ * Column positions are resolved from the header once, when the table is bound, and a sheet that
+ * lacks a required column fails right there with the missing names. Looking up a row afterwards is
+ * an array read.
+ */
+public final class RowTable<T> {
+
+    /** Builds one typed row from the values of the required columns, in the order they were requested. */
+    public interface RowMapper<T> {
+        T map(int rowNumber, String[] values);
+    }
+
+    private final String sheetName;
+    private final Object[] rows;
+    private final List<Integer> rowNumbers;
+
+    private RowTable(String sheetName, Object[] rows, List<Integer> rowNumbers) {
+        this.sheetName = sheetName;
+        this.rows = rows;
+        this.rowNumbers = Collections.unmodifiableList(rowNumbers);
+    }
+
+    // Resolves the columns by header name and maps every non-blank data row
+    public static <T> RowTable<T> bind(SheetTable sheet, List<String> columns, RowMapper<T> mapper) {
+        int[] positions = resolveColumns(sheet, columns);
+
+        Object[] rows = new Object[sheet.lastRowNumber() + 1];
+        List<Integer> rowNumbers = new ArrayList<>();
+        for (int r = 1; r <= sheet.lastRowNumber(); r++) {
+            if (sheet.isBlankRow(r)) {
+                continue;
+            }
+            String[] values = new String[positions.length];
+            for (int c = 0; c < positions.length; c++) {
+                values[c] = sheet.cell(r, positions[c]);
+            }
+            rows[r] = mapper.map(r, values);
+            rowNumbers.add(r);
+        }
+        return new RowTable<>(sheet.getName(), rows, rowNumbers);
+    }
+
+    private static int[] resolveColumns(SheetTable sheet, List<String> columns) {
+        int[] positions = new int[columns.size()];
+        List<String> missing = new ArrayList<>();
+        for (int c = 0; c < columns.size(); c++) {
+            positions[c] = sheet.columnIndex(columns.get(c));
+            if (positions[c] < 0) {
+                missing.add(describeMissing(sheet, columns.get(c)));
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Sheet '" + sheet.getName() + "' is missing column(s) " + missing
+                + " (headers found: " + sheet.getHeaders() + ")");
+        }
+        return positions;
+    }
+
+    // Names the missing column and points at a header that only differs in case or surrounding spaces
+    private static String describeMissing(SheetTable sheet, String column) {
+        for (String header : sheet.getHeaders()) {
+            if (header.trim().equalsIgnoreCase(column)) {
+                return column + " (found '" + header + "')";
+            }
+        }
+        return column;
+    }
+
+    public String getSheetName() {
+        return sheetName;
+    }
+
+    // Physical row numbers of the bound (non-blank) rows
+    public List<Integer> getRowNumbers() {
+        return rowNumbers;
+    }
+
+    public boolean hasRow(int rowNumber) {
+        return rowNumber > 0 && rowNumber < rows.length && rows[rowNumber] != null;
+    }
+
+    // Bound row at the physical row number; fails when the row is blank or outside the sheet
+    @SuppressWarnings("unchecked")
+    public T row(int rowNumber) {
+        if (!hasRow(rowNumber)) {
+            throw new IllegalArgumentException("Sheet '" + sheetName + "' has no data in row " + rowNumber
+                + " (data rows: " + rowNumbers + ")");
+        }
+        return (T) rows[rowNumber];
+    }
+}
@@ -0,0 +1,198 @@
+package utils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.cucumber.gherkin.GherkinParser;
+import io.cucumber.messages.types.Examples;
+import io.cucumber.messages.types.FeatureChild;
+import io.cucumber.messages.types.GherkinDocument;
+import io.cucumber.messages.types.RuleChild;
+import io.cucumber.messages.types.Scenario;
+import io.cucumber.messages.types.TableCell;
+import io.cucumber.messages.types.TableRow;
+
+/**
+ * Per-scenario duration history used to balance shards (and, keyed by JUnit name, by
+ * LongestFirstScheduler).
+ *
+ * Scenarios are keyed by feature path and scenario name, plus the row for outline examples
+ * ("features/FlightBooking.feature:Validate booking inputs and error messages#12"): the rowIndex
+ * column when the Examples have one, else the row's position in the outline. Lines are not used,
+ * because a row added to a sheet moves every generated row after it. A new measurement is averaged
+ * with the stored value so one slow run does not reshuffle every shard.
+ *
+ * The file has one "millis key" pair per line and lives under target/, so local runs do not touch
+ * the working tree; CI restores it from its cache before the build and saves it after the run (or
+ * the shard merge), because every shard must plan from the same copy.
+ *
+ * Config key: scenarioDurationsFile (default target/scenario-durations.txt)
+ */
+public final class ScenarioDurations {
+    private static final Log log = Log.get(ScenarioDurations.class);
+
+    private static final String ROW_INDEX = "rowIndex";
+
+    private final Map<String, Long> millisByScenario = new ConcurrentHashMap<>();
+
+    // History file from config.properties
+    public static Path defaultFile() {
+        return Paths.get(ConfigReader.get("scenarioDurationsFile", "target/scenario-durations.txt"));
+    }
+
+    // Keys of a feature's scenarios by the line Cucumber runs them from, parsed from the feature source
+    public static Map<Long, String> keys(String uri, String source) {
+        Map<Long, String> keys = new HashMap<>();
+        GherkinParser parser = GherkinParser.builder().includeSource(false).includePickles(false).build();
+        parser.parse(uri, source.getBytes(StandardCharsets.UTF_8))
+            .forEach(envelope -> envelope.getGherkinDocument().ifPresent(document -> keys.putAll(keys(uri, document))));
+        return keys;
+    }
+
+    /**
+     * Keys of a feature's scenarios by line: the scenario line, or the example row line for an
+     * outline, which is how Cucumber addresses a pickle. A name used twice in one feature gets
+     * "~2", "~3" on its later scenarios.
+     */
+    public static Map<Long, String> keys(String uri, GherkinDocument document) {
+        String path = path(uri);
+        Map<Long, String> keys = new HashMap<>();
+        Map<String, Integer> names = new HashMap<>();
+        document.getFeature().ifPresent(feature -> {
+            for (FeatureChild child : feature.getChildren()) {
+                child.getScenario().ifPresent(scenario -> addKeys(path, scenario, names, keys));
+                child.getRule().ifPresent(rule -> {
+                    for (RuleChild ruleChild : rule.getChildren()) {
+                        ruleChild.getScenario().ifPresent(scenario -> addKeys(path, scenario, names, keys));
+                    }
+                });
+            }
+        });
+        return keys;
+    }
+
+    private static void addKeys(String path, Scenario scenario, Map<String, Integer> names, Map<Long, String> keys) {
+        int occurrence = names.merge(scenario.getName(), 1, Integer::sum);
+        String key = path + ":" + scenario.getName() + (occurrence > 1 ? "~" + occurrence : "");
+        keys.put(scenario.getLocation().getLine(), key);
+
+        int position = 0;
+        for (Examples examples : scenario.getExamples()) {
+            int rowIndexColumn = examples.getTableHeader().map(ScenarioDurations::rowIndexColumn).orElse(-1);
+            for (TableRow row : examples.getTableBody()) {
+                position++;
+                List<TableCell> cells = row.getCells();
+                String id = rowIndexColumn >= 0 && rowIndexColumn < cells.size()
+                    ? cells.get(rowIndexColumn).getValue() : String.valueOf(position);
+                keys.put(row.getLocation().getLine(), key + "#" + id);
+            }
+        }
+    }
+
+    private static int rowIndexColumn(TableRow header) {
+        for (int c = 0; c < header.getCells().size(); c++) {
+            if (header.getCells().get(c).getValue().equalsIgnoreCase(ROW_INDEX)) {
+                return c;
+            }
+        }
+        return -1;
+    }
+
+    // "classpath:features/FlightBooking.feature" -> "features/FlightBooking.feature", the same for file: URIs
+    static String path(String uri) {
+        String path = uri;
+        if (uri.startsWith("classpath:") || uri.startsWith("file:")) {
+            path = URI.create(uri).getSchemeSpecificPart();
+        }
+        while (path.startsWith("/")) {
+            path = path.substring(1);
+        }
+        return path;
+    }
+
+    // Reads the history file; a missing or unreadable file gives an empty history
+    public static ScenarioDurations load(Path file) {
+        ScenarioDurations durations = new ScenarioDurations();
+        if (!Files.isRegularFile(file)) {
+            return durations;
+        }
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                String trimmed = line.trim();
+                int space = trimmed.indexOf(' ');
+                if (trimmed.isEmpty() || trimmed.startsWith("#") || space < 0) {
+                    continue;
+                }
+                try {
+                    durations.millisByScenario.put(trimmed.substring(space + 1).trim(), Long.parseLong(trimmed.substring(0, space)));
+                } catch (NumberFormatException e) {
+                    log.warn("⚠️ Ignoring malformed duration line in " + file + ": " + line);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("⚠️ Could not read scenario durations from " + file + ": " + e.getMessage());
+        }
+        return durations;
+    }
+
+    // Stored duration in milliseconds, or -1 when the scenario has no history
+    public long get(String key) {
+        return millisByScenario.getOrDefault(key, -1L);
+    }
+
+    public Set<String> keys() {
+        return millisByScenario.keySet();
+    }
+
+    public boolean isEmpty() {
+        return millisByScenario.isEmpty();
+    }
+
+    public int size() {
+        return millisByScenario.size();
+    }
+
+    // Median of the known durations (-1 when empty); the estimate for scenarios without history
+    public long median() {
+        long[] values = millisByScenario.values().stream().mapToLong(Long::longValue).sorted().toArray();
+        return values.length == 0 ? -1 : values[values.length / 2];
+    }
+
+    // Averages a new measurement with the stored value
+    public void record(String key, long millis) {
+        millisByScenario.merge(key, Math.max(millis, 0), (previous, latest) -> (previous + latest) / 2);
+    }
+
+    // Writes the history sorted by key, replacing the file atomically
+    public void save(Path file) {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                writer.write("# Scenario durations in ms (millis scenario), updated after each run.");
+                writer.newLine();
+                for (Map.Entry<String, Long> entry : new TreeMap<>(millisByScenario).entrySet()) {
+                    writer.write(entry.getValue() + " " + entry.getKey());
+                    writer.newLine();
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write scenario durations to " + file, e);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package utils;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ScenarioDurationsTest {
+
+    private static final String OUTLINE = String.join("\n",
+        "Feature: Booking",
+        "",
+        "Scenario Outline: Book row",
+        "  Given booking row <rowIndex>",
+        "",
+        "  Examples:",
+        "  | rowIndex | name |",
+        "  | 2 | Ann |",
+        "  | 5 | Bob |",
+        "");
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    @Test
+    public void keysOutlineRowsByRowIndex() {
+        Map<Long, String> keys = ScenarioDurations.keys("classpath:features/Booking.feature", OUTLINE);
+
+        assertEquals("features/Booking.feature:Book row", keys.get(3L));
+        assertEquals("features/Booking.feature:Book row#2", keys.get(8L));
+        assertEquals("features/Booking.feature:Book row#5", keys.get(9L));
+    }
+
+    @Test
+    public void keepsKeysWhenARowIsInsertedAbove() {
+        String inserted = OUTLINE.replace("  | 2 | Ann |", "  | 1 | Eve |\n  | 2 | Ann |");
+
+        Map<Long, String> keys = ScenarioDurations.keys("classpath:features/Booking.feature", inserted);
+
+        assertEquals("features/Booking.feature:Book row#1", keys.get(8L));
+        assertEquals("features/Booking.feature:Book row#2", keys.get(9L));
+        assertEquals("features/Booking.feature:Book row#5", keys.get(10L));
+    }
+
+    @Test
+    public void keysRowsByPositionWithoutARowIndexColumn() {
+        String feature = OUTLINE.replace("rowIndex", "row");
+
+        Map<Long, String> keys = ScenarioDurations.keys("classpath:features/Booking.feature", feature);
+
+        assertEquals("features/Booking.feature:Book row#1", keys.get(8L));
+        assertEquals("features/Booking.feature:Book row#2", keys.get(9L));
+    }
+
+    @Test
+    public void numbersRepeatedScenarioNames() {
+        String feature = "Feature: Twice\n\nScenario: Same\n  Given a step\n\nScenario: Same\n  Given a step\n";
+
+        Map<Long, String> keys = ScenarioDurations.keys("classpath:features/Twice.feature", feature);
+
+        assertEquals("features/Twice.feature:Same", keys.get(3L));
+        assertEquals("features/Twice.feature:Same~2", keys.get(6L));
+    }
+
+    @Test
+    public void givesClasspathAndFileUrisTheSamePath() {
+        assertEquals("features/Booking.feature", ScenarioDurations.path("classpath:features/Booking.feature"));
+        assertEquals("features/Booking.feature", ScenarioDurations.path("classpath:/features/Booking.feature"));
+        assertEquals("features/Booking.feature", ScenarioDurations.path("file:features/Booking.feature"));
+        assertEquals("src/test/resources/features/Booking.feature",
+            ScenarioDurations.path("file:///src/test/resources/features/Booking.feature"));
+        assertEquals("src/test/resources/features/Booking.feature",
+            ScenarioDurations.path("src/test/resources/features/Booking.feature"));
+    }
+
+    @Test
+    public void averagesNewMeasurementsAndSurvivesASaveAndLoad() throws IOException {
+        Path file = temp.getRoot().toPath().resolve("durations.txt");
+        ScenarioDurations durations = new ScenarioDurations();
+        durations.record("features/Booking.feature:Book row#2", 100);
+        durations.record("features/Booking.feature:Book row#2", 300);
+        durations.record("features/Booking.feature:Reset", 50);
+        durations.save(file);
+
+        ScenarioDurations loaded = ScenarioDurations.load(file);
+
+        assertEquals(200, loaded.get("features/Booking.feature:Book row#2"));
+        assertEquals(50, loaded.get("features/Booking.feature:Reset"));
+        assertEquals(-1, loaded.get("features/Booking.feature:Book row#5"));
+        assertEquals(200, loaded.median());
+    }
+}
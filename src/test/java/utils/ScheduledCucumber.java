@@ -0,0 +1,68 @@
+package utils;
+
+import java.nio.file.Paths;
+
+import org.junit.runner.Description;
+import org.junit.runner.Runner;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.manipulation.Filterable;
+import org.junit.runner.manipulation.NoTestsRemainException;
+import org.junit.runner.manipulation.Sorter;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runners.ParentRunner;
+import org.junit.runners.model.InitializationError;
+
+import io.cucumber.junit.Cucumber;
+
+/**
+ * Cucumber JUnit runner that runs scenarios longest-first on its own thread pool
+ * (runners.ScheduledTestRunner, pom.xml "scheduled" profile).
+ *
+ * The suite is built by the regular Cucumber runner; only the scheduling changes. Cucumber does
+ * not expose its feature runners, so a pass-through Sorter visits them and installs the queueing
+ * scheduler from LongestFirstScheduler.forFeature(). Before/AfterAll hooks still run once, around
+ * the whole pool.
+ *
+ * Config keys: schedulerThreads (default driverPoolSize, else CPU cores), schedulerHistoryFile
+ * (default target/scenario-schedule.txt)
+ */
+public final class ScheduledCucumber extends Runner implements Filterable {
+
+    private final Cucumber cucumber;
+
+    public ScheduledCucumber(Class<?> testClass) throws InitializationError {
+        this.cucumber = new Cucumber(testClass);
+    }
+
+    @Override
+    public Description getDescription() {
+        return cucumber.getDescription();
+    }
+
+    @Override
+    public void filter(Filter filter) throws NoTestsRemainException {
+        cucumber.filter(filter);
+    }
+
+    @Override
+    public void run(RunNotifier notifier) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        int threads = ConfigReader.getInt("schedulerThreads", ConfigReader.getInt("driverPoolSize", cores));
+        LongestFirstScheduler scheduler = new LongestFirstScheduler(threads,
+            Paths.get(ConfigReader.get("schedulerHistoryFile", "target/scenario-schedule.txt")));
+
+        // Keeps the order; apply() is called once per feature runner and does not descend further
+        cucumber.sort(new Sorter((left, right) -> 0) {
+            @Override
+            public void apply(Object runner) {
+                if (runner instanceof ParentRunner) {
+                    ParentRunner<?> feature = (ParentRunner<?>) runner;
+                    feature.setScheduler(scheduler.forFeature(feature));
+                }
+            }
+        });
+        // Also switches Cucumber to its thread-safe (multi-threaded) execution mode
+        cucumber.setScheduler(scheduler);
+        cucumber.run(notifier);
+    }
+}
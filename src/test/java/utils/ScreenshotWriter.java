@@ -0,0 +1,176 @@
+package utils;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+/**
+ * Writes screenshots to target/screenshots on a background thread.
+ *
+ * The test thread only hands over the PNG bytes. The queue is bounded and the run has a disk
+ * budget, so a cascade of failures drops screenshots (with a log line) instead of piling up
+ * memory or filling the disk. Screenshots can optionally be transcoded to JPEG, which is usually
+ * several times smaller than the PNG the browser returns. The file extension follows the bytes
+ * actually written: a screenshot that cannot be transcoded is kept as .png.
+ *
+ * Config keys: screenshotFormat (png | jpg), screenshotJpegQuality (0-1), screenshotQueueSize,
+ * screenshotMaxTotalMB
+ */
+public final class ScreenshotWriter {
+    private static final Log log = Log.get(ScreenshotWriter.class);
+
+    private static final Path SCREENSHOT_DIR = Paths.get("target", "screenshots");
+    private static final float DEFAULT_JPEG_QUALITY = 0.7f;
+    private static volatile ScreenshotWriter instance;
+
+    private final boolean jpeg;
+    private final float jpegQuality;
+    private final long maxTotalBytes;
+    private final AtomicLong writtenBytes = new AtomicLong();
+    private final ThreadPoolExecutor executor;
+
+    // Package-private for the benchmarks module; everything else goes through getInstance()
+    ScreenshotWriter(boolean jpeg, float jpegQuality, int queueSize, long maxTotalBytes) {
+        this.jpeg = jpeg;
+        this.jpegQuality = jpegQuality;
+        this.maxTotalBytes = maxTotalBytes;
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueSize),
+            runnable -> {
+                Thread thread = new Thread(runnable, "screenshot-writer");
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public static ScreenshotWriter getInstance() {
+        if (instance == null) {
+            synchronized (ScreenshotWriter.class) {
+                if (instance == null) {
+                    String format = ConfigReader.get("screenshotFormat", "png").toLowerCase();
+                    float quality = jpegQuality(ConfigReader.get("screenshotJpegQuality", String.valueOf(DEFAULT_JPEG_QUALITY)));
+                    int queueSize = ConfigReader.getInt("screenshotQueueSize", 16);
+                    long maxTotalMb = ConfigReader.getInt("screenshotMaxTotalMB", 200);
+                    instance = new ScreenshotWriter(format.equals("jpg") || format.equals("jpeg"),
+                        Math.min(1f, Math.max(0.1f, quality)), Math.max(1, queueSize), maxTotalMb * 1024 * 1024);
+                }
+            }
+        }
+        return instance;
+    }
+
+    // Like ConfigReader.getInt: an unparsable value is reported and the default used
+    static float jpegQuality(String value) {
+        try {
+            return Float.parseFloat(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("⚠️ Invalid number for 'screenshotJpegQuality': " + value + " - using " + DEFAULT_JPEG_QUALITY);
+            return DEFAULT_JPEG_QUALITY;
+        }
+    }
+
+    /**
+     * Queues a screenshot for writing as baseName plus .jpg or .png (decided when it is written), and
+     * returns false when it was dropped because the queue is full or the executor is down.
+     */
+    public boolean submit(String baseName, byte[] png) {
+        try {
+            executor.execute(() -> write(baseName, png));
+            return true;
+        } catch (RejectedExecutionException e) {
+            log.warn("⚠️ Screenshot dropped (writer queue full): " + baseName);
+            return false;
+        }
+    }
+
+    // Waits for queued screenshots to be written, then stops the writer thread
+    public void shutdown(long timeout, TimeUnit unit) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeout, unit)) {
+                log.warn("⚠️ Screenshot writer still busy after " + timeout + " " + unit.toString().toLowerCase()
+                    + " - " + executor.getQueue().size() + " screenshot(s) not written");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Runs on the writer thread (called directly by the benchmarks)
+    void write(String baseName, byte[] png) {
+        String fileName = baseName + ".png";
+        try {
+            byte[] bytes = png;
+            if (jpeg) {
+                byte[] converted = toJpeg(png);
+                if (converted != null) {
+                    bytes = converted;
+                    fileName = baseName + ".jpg";
+                } else {
+                    log.warn("⚠️ Screenshot could not be converted to JPEG, keeping the PNG: " + fileName);
+                }
+            }
+            if (writtenBytes.addAndGet(bytes.length) > maxTotalBytes) {
+                writtenBytes.addAndGet(-bytes.length);
+                log.warn("⚠️ Screenshot dropped (disk budget of " + (maxTotalBytes / (1024 * 1024)) + " MB used): " + fileName);
+                return;
+            }
+            Files.createDirectories(SCREENSHOT_DIR);
+            Files.write(SCREENSHOT_DIR.resolve(fileName), bytes);
+            log.info("📸 Screenshot saved: " + fileName);
+        } catch (IOException | RuntimeException e) {
+            log.error("❌ Failed to save screenshot " + fileName + ": " + e.getMessage());
+        }
+    }
+
+    // Re-encodes PNG bytes as JPEG (transparency flattened onto white); null when the image or a JPEG writer is missing
+    private byte[] toJpeg(byte[] png) throws IOException {
+        BufferedImage source = ImageIO.read(new ByteArrayInputStream(png));
+        if (source == null) {
+            return null;
+        }
+        BufferedImage rgb = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        try {
+            graphics.drawImage(source, 0, 0, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpg");
+        if (!writers.hasNext()) {
+            return null;
+        }
+        ImageWriter writer = writers.next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(png.length / 4);
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(stream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.write(null, new IIOImage(rgb, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,81 @@
+package utils;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import javax.imageio.ImageIO;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class ScreenshotWriterTest {
+
+    private static final Path DIR = Paths.get("target", "screenshots");
+    private static final String BASE = "ScreenshotWriterTest";
+
+    @After
+    public void deleteFiles() throws IOException {
+        for (String extension : Arrays.asList(".png", ".jpg")) {
+            Files.deleteIfExists(DIR.resolve(BASE + extension));
+        }
+    }
+
+    @Test
+    public void writesAJpegUnderAJpgName() throws IOException {
+        new ScreenshotWriter(true, 0.7f, 1, Long.MAX_VALUE).write(BASE, png());
+
+        byte[] written = Files.readAllBytes(DIR.resolve(BASE + ".jpg"));
+        assertEquals((byte) 0xFF, written[0]);
+        assertEquals((byte) 0xD8, written[1]);
+        assertFalse(Files.exists(DIR.resolve(BASE + ".png")));
+    }
+
+    @Test
+    public void keepsBytesThatAreNoImageUnderAPngName() throws IOException {
+        byte[] notAnImage = {1, 2, 3, 4};
+
+        new ScreenshotWriter(true, 0.7f, 1, Long.MAX_VALUE).write(BASE, notAnImage);
+
+        assertArrayEquals(notAnImage, Files.readAllBytes(DIR.resolve(BASE + ".png")));
+        assertFalse(Files.exists(DIR.resolve(BASE + ".jpg")));
+    }
+
+    @Test
+    public void writesThePngAsIsWhenJpegIsOff() throws IOException {
+        byte[] png = png();
+
+        new ScreenshotWriter(false, 0.7f, 1, Long.MAX_VALUE).write(BASE, png);
+
+        assertArrayEquals(png, Files.readAllBytes(DIR.resolve(BASE + ".png")));
+    }
+
+    @Test
+    public void dropsScreenshotsOverTheDiskBudget() {
+        new ScreenshotWriter(false, 0.7f, 1, 2).write(BASE, new byte[] {1, 2, 3});
+
+        assertFalse(Files.exists(DIR.resolve(BASE + ".png")));
+    }
+
+    @Test
+    public void fallsBackToTheDefaultQualityForBadNumbers() {
+        assertEquals(0.5f, ScreenshotWriter.jpegQuality(" 0.5 "), 0f);
+        assertEquals(0.7f, ScreenshotWriter.jpegQuality("high"), 0f);
+        assertEquals(0.7f, ScreenshotWriter.jpegQuality(""), 0f);
+    }
+
+    private static byte[] png() throws IOException {
+        BufferedImage image = new BufferedImage(32, 16, BufferedImage.TYPE_INT_ARGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
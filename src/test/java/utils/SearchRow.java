@@ -0,0 +1,63 @@
+package utils;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * One row of the flight_search_details sheet.
+ *
+ * searchType must name one of the search page's filters and expectedMessage must be set; both are
+ * checked when the sheet is bound.
+ */
+public final class SearchRow {
+
+    static final List<String> COLUMNS = Arrays.asList("searchType", "inputValue", "expectedMessage");
+
+    private static final List<String> SEARCH_TYPES = Arrays.asList("flight number", "flight name", "flight type");
+
+    private final int rowNumber;
+    private final String searchType;
+    private final String inputValue;
+    private final String expectedMessage;
+
+    private SearchRow(int rowNumber, String[] values) {
+        this.rowNumber = rowNumber;
+        this.searchType = values[0];
+        this.inputValue = values[1];
+        this.expectedMessage = values[2];
+
+        if (!SEARCH_TYPES.contains(searchType.toLowerCase().trim())) {
+            throw new IllegalStateException("flight_search_details row " + rowNumber
+                + ": unknown searchType '" + searchType + "' (expected one of " + SEARCH_TYPES + ")");
+        }
+        if (expectedMessage.trim().isEmpty()) {
+            throw new IllegalStateException("flight_search_details row " + rowNumber + ": expectedMessage is empty");
+        }
+    }
+
+    static RowTable<SearchRow> bind(SheetTable sheet) {
+        return RowTable.bind(sheet, COLUMNS, SearchRow::new);
+    }
+
+    public int getRowNumber() {
+        return rowNumber;
+    }
+
+    public String getSearchType() {
+        return searchType;
+    }
+
+    public String getInputValue() {
+        return inputValue;
+    }
+
+    public String getExpectedMessage() {
+        return expectedMessage;
+    }
+
+    @Override
+    public String toString() {
+        return "SearchRow{row=" + rowNumber + ", searchType=" + searchType + ", inputValue=" + inputValue
+            + ", expectedMessage=" + expectedMessage + "}";
+    }
+}
@@ -0,0 +1,95 @@
+package utils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Logs in once per worker thread and restores that session into later scenarios' browsers.
+ *
+ * The first authenticate() on a thread runs the UI login and snapshots the resulting cookies and
+ * storage (SessionSnapshot). Later calls restore the snapshot into the leased browser, which the
+ * pool has wiped. A restore only counts when the snapshot's cookies and storage are still set after
+ * the reload and the caller's predicate accepts the page (e.g. the app did not bounce back to the
+ * login page). A snapshot that the browser or the app rejects, or that is older than
+ * sessionMaxAgeMinutes, is dropped and the UI login runs again. A login that leaves no cookies or
+ * storage is not cached at all: there is no session to restore, so every call logs in through the UI.
+ *
+ * Config keys: sessionCache (default true; false = UI login every time), sessionMaxAgeMinutes
+ */
+public final class SessionCache {
+    private static final Log log = Log.get(SessionCache.class);
+
+    private static final boolean ENABLED = Boolean.parseBoolean(ConfigReader.get("sessionCache", "true"));
+    private static final long MAX_AGE_MILLIS = TimeUnit.MINUTES.toMillis(ConfigReader.getInt("sessionMaxAgeMinutes", 30));
+
+    // Per worker thread, keyed by user
+    private static final ThreadLocal<Map<String, SessionSnapshot>> SNAPSHOTS = ThreadLocal.withInitial(HashMap::new);
+    private static final AtomicBoolean STATELESS_LOGGED = new AtomicBoolean();
+
+    private SessionCache() {
+    }
+
+    /**
+     * Leaves the driver logged in as 'user', restoring a snapshot when there is a valid one.
+     * Throws IllegalStateException when the UI login does not produce an authenticated page.
+     */
+    public static void authenticate(WebDriver driver, String user, Runnable uiLogin, Predicate<WebDriver> isAuthenticated) {
+        authenticate(driver, user, uiLogin, isAuthenticated, MAX_AGE_MILLIS);
+    }
+
+    // maxAgeMillis is sessionMaxAgeMinutes for the public overload
+    static void authenticate(WebDriver driver, String user, Runnable uiLogin, Predicate<WebDriver> isAuthenticated,
+                             long maxAgeMillis) {
+        Map<String, SessionSnapshot> snapshots = SNAPSHOTS.get();
+        SessionSnapshot snapshot = ENABLED ? snapshots.get(user) : null;
+        if (snapshot != null) {
+            if (restore(driver, snapshot, isAuthenticated, maxAgeMillis)) {
+                log.info("♻️ Session restored for " + user + " (" + snapshot.ageMillis() / 1000 + " s old)");
+                return;
+            }
+            snapshots.remove(user);
+        }
+
+        uiLogin.run();
+        if (!isAuthenticated.test(driver)) {
+            throw new IllegalStateException("Login as " + user + " did not reach an authenticated page: "
+                + driver.getCurrentUrl());
+        }
+        if (ENABLED) {
+            SessionSnapshot captured = SessionSnapshot.capture(driver);
+            if (captured.isEmpty()) {
+                if (STATELESS_LOGGED.compareAndSet(false, true)) {
+                    log.info("🔓 Login as " + user + " left no cookies or storage, so there is no session to cache;"
+                        + " @authenticated scenarios log in through the UI");
+                }
+                return;
+            }
+            snapshots.put(user, captured);
+            log.info("🔐 Logged in as " + user + " through the UI, cached " + captured);
+        }
+    }
+
+    private static boolean restore(WebDriver driver, SessionSnapshot snapshot, Predicate<WebDriver> isAuthenticated,
+                                   long maxAgeMillis) {
+        if (snapshot.ageMillis() > maxAgeMillis) {
+            log.info("⌛ Cached session expired, logging in again");
+            return false;
+        }
+        try {
+            snapshot.restore(driver);
+            if (snapshot.isPresentIn(driver) && isAuthenticated.test(driver)) {
+                return true;
+            }
+            log.warn("⚠️ Cached session was rejected by the app, logging in again");
+        } catch (WebDriverException e) {
+            log.warn("⚠️ Could not restore cached session, logging in again: " + e.getMessage());
+        }
+        return false;
+    }
+}
@@ -0,0 +1,197 @@
+package utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+public class SessionCacheTest {
+
+    private static final String HOME = "https://flights.test/home";
+    private static final Predicate<WebDriver> ON_HOME =
+        driver -> HOME.equals(driver.getCurrentUrl()) && driver.manage().getCookieNamed("sid") != null;
+
+    private int logins;
+
+    @Test
+    public void restoresTheSessionIntoAFreshBrowser() {
+        authenticate(new FakeBrowser(), "restore", true);
+        FakeBrowser next = new FakeBrowser();
+
+        authenticate(next, "restore", true);
+
+        assertEquals(1, logins);
+        assertEquals(HOME, next.url);
+        assertNotNull(next.cookies.get("sid"));
+        assertEquals("t-1", next.localStorage.get("token"));
+        assertEquals(1, next.refreshes);
+    }
+
+    @Test
+    public void logsInAgainWhenTheAppRejectsTheRestoredSession() {
+        authenticate(new FakeBrowser(), "reject", true);
+        FakeBrowser next = new FakeBrowser();
+        next.clearsStateOnReload = true;
+
+        authenticate(next, "reject", true);
+
+        assertEquals(2, logins);
+        assertEquals(HOME, next.url);
+        assertEquals("t-2", next.localStorage.get("token"));
+    }
+
+    @Test
+    public void logsInAgainWhenTheBrowserRefusesTheCookies() {
+        authenticate(new FakeBrowser(), "refuse", true);
+        FakeBrowser next = new FakeBrowser();
+        next.refusesCookies = true;
+
+        authenticate(next, "refuse", true);
+
+        assertEquals(2, logins);
+    }
+
+    @Test
+    public void logsInAgainWhenTheSnapshotExpired() {
+        authenticate(new FakeBrowser(), "expire", true);
+        FakeBrowser next = new FakeBrowser();
+
+        SessionCache.authenticate(next.driver(), "expire", login(next, true), ON_HOME, -1);
+
+        assertEquals(2, logins);
+        assertEquals(0, next.refreshes);
+    }
+
+    @Test
+    public void doesNotCacheALoginThatLeavesNoState() {
+        Predicate<WebDriver> onHome = driver -> HOME.equals(driver.getCurrentUrl());
+        FakeBrowser first = new FakeBrowser();
+        FakeBrowser next = new FakeBrowser();
+
+        SessionCache.authenticate(first.driver(), "stateless", login(first, false), onHome);
+        SessionCache.authenticate(next.driver(), "stateless", login(next, false), onHome);
+
+        assertEquals(2, logins);
+        assertEquals(0, next.refreshes);
+    }
+
+    @Test
+    public void throwsWhenTheUiLoginDoesNotAuthenticate() {
+        FakeBrowser browser = new FakeBrowser();
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+            () -> SessionCache.authenticate(browser.driver(), "failed", () -> browser.url = "https://flights.test/login", ON_HOME));
+
+        assertTrue(e.getMessage(), e.getMessage().endsWith("https://flights.test/login"));
+    }
+
+    private void authenticate(FakeBrowser browser, String user, boolean keepsSession) {
+        SessionCache.authenticate(browser.driver(), user, login(browser, keepsSession), ON_HOME);
+    }
+
+    private Runnable login(FakeBrowser browser, boolean keepsSession) {
+        return () -> {
+            logins++;
+            browser.url = HOME;
+            if (keepsSession) {
+                browser.cookies.put("sid", new Cookie("sid", "s-" + logins));
+                browser.localStorage.put("token", "t-" + logins);
+            }
+        };
+    }
+
+    /** Just enough of a browser for SessionSnapshot: URL, cookies, both storages and reload. */
+    private static final class FakeBrowser {
+        String url = "about:blank";
+        final Map<String, Cookie> cookies = new LinkedHashMap<>();
+        final Map<String, String> localStorage = new HashMap<>();
+        final Map<String, String> sessionStorage = new HashMap<>();
+        boolean clearsStateOnReload;
+        boolean refusesCookies;
+        int refreshes;
+
+        WebDriver driver() {
+            WebDriver.Options options = proxy(WebDriver.Options.class, (method, args) -> {
+                switch (method) {
+                    case "getCookies":
+                        return new HashSet<>(cookies.values());
+                    case "getCookieNamed":
+                        return cookies.get((String) args[0]);
+                    case "addCookie":
+                        if (refusesCookies) {
+                            throw new WebDriverException("invalid cookie domain");
+                        }
+                        Cookie cookie = (Cookie) args[0];
+                        cookies.put(cookie.getName(), cookie);
+                        return null;
+                    default:
+                        throw new UnsupportedOperationException(method);
+                }
+            });
+            WebDriver.Navigation navigation = proxy(WebDriver.Navigation.class, (method, args) -> {
+                if (!"refresh".equals(method)) {
+                    throw new UnsupportedOperationException(method);
+                }
+                refreshes++;
+                if (clearsStateOnReload) {
+                    cookies.clear();
+                    localStorage.clear();
+                    sessionStorage.clear();
+                    url = "https://flights.test/login";
+                }
+                return null;
+            });
+            return (WebDriver) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {WebDriver.class, JavascriptExecutor.class}, (self, method, args) -> {
+                    switch (method.getName()) {
+                        case "getCurrentUrl":
+                            return url;
+                        case "get":
+                            url = (String) args[0];
+                            return null;
+                        case "manage":
+                            return options;
+                        case "navigate":
+                            return navigation;
+                        case "executeScript":
+                            return script((Object[]) args[1]);
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+        }
+
+        // SessionSnapshot passes (storage) to read and (storage, entries) to write
+        @SuppressWarnings("unchecked")
+        private Object script(Object[] args) {
+            Map<String, String> storage = "localStorage".equals(args[0]) ? localStorage : sessionStorage;
+            if (args.length == 1) {
+                return new HashMap<>(storage);
+            }
+            storage.putAll((Map<String, String>) args[1]);
+            return null;
+        }
+
+        private interface Call {
+            Object invoke(String method, Object[] args);
+        }
+
+        private static <T> T proxy(Class<T> type, Call call) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+                (self, method, args) -> call.invoke(method.getName(), args)));
+        }
+    }
+}
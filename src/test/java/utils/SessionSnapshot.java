@@ -0,0 +1,95 @@
+package utils;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Browser login state: cookies plus localStorage and sessionStorage of one origin.
+ *
+ * capture() is taken on the page reached after logging in. restore() opens that page, puts the
+ * state back and reloads it, so the page sees the session as if the user had just logged in.
+ * isPresentIn() tells whether the app kept that state after the reload instead of clearing it.
+ */
+public final class SessionSnapshot {
+
+    private static final String READ_STORAGE =
+        "var storage = window[arguments[0]], entries = {};"
+        + " for (var i = 0; i < storage.length; i++) { var key = storage.key(i); entries[key] = storage.getItem(key); }"
+        + " return entries;";
+    private static final String WRITE_STORAGE =
+        "var storage = window[arguments[0]], entries = arguments[1];"
+        + " for (var key in entries) { storage.setItem(key, entries[key]); }";
+
+    private final String url;
+    private final Set<Cookie> cookies;
+    private final Map<String, String> localStorage;
+    private final Map<String, String> sessionStorage;
+    private final long capturedAt = System.currentTimeMillis();
+
+    private SessionSnapshot(String url, Set<Cookie> cookies, Map<String, String> localStorage,
+                            Map<String, String> sessionStorage) {
+        this.url = url;
+        this.cookies = cookies;
+        this.localStorage = localStorage;
+        this.sessionStorage = sessionStorage;
+    }
+
+    public static SessionSnapshot capture(WebDriver driver) {
+        return new SessionSnapshot(driver.getCurrentUrl(), new HashSet<>(driver.manage().getCookies()),
+            readStorage(driver, "localStorage"), readStorage(driver, "sessionStorage"));
+    }
+
+    // Replays the state on the captured page; throws WebDriverException when the browser refuses it
+    public void restore(WebDriver driver) {
+        driver.get(url);
+        for (Cookie cookie : cookies) {
+            driver.manage().addCookie(cookie);
+        }
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        js.executeScript(WRITE_STORAGE, "localStorage", localStorage);
+        js.executeScript(WRITE_STORAGE, "sessionStorage", sessionStorage);
+        driver.navigate().refresh();
+    }
+
+    // True when the login left nothing to restore: no cookies and no storage entries
+    public boolean isEmpty() {
+        return cookies.isEmpty() && localStorage.isEmpty() && sessionStorage.isEmpty();
+    }
+
+    // True when every captured cookie and storage key is still set in the browser
+    public boolean isPresentIn(WebDriver driver) {
+        for (Cookie cookie : cookies) {
+            if (driver.manage().getCookieNamed(cookie.getName()) == null) {
+                return false;
+            }
+        }
+        return readStorage(driver, "localStorage").keySet().containsAll(localStorage.keySet())
+            && readStorage(driver, "sessionStorage").keySet().containsAll(sessionStorage.keySet());
+    }
+
+    public long ageMillis() {
+        return System.currentTimeMillis() - capturedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "SessionSnapshot{url=" + url + ", cookies=" + cookies.size() + ", localStorage=" + localStorage.size()
+            + ", sessionStorage=" + sessionStorage.size() + "}";
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, String> readStorage(WebDriver driver, String storage) {
+        Object entries = ((JavascriptExecutor) driver).executeScript(READ_STORAGE, storage);
+        Map<String, String> values = new HashMap<>();
+        if (entries instanceof Map) {
+            ((Map<String, Object>) entries).forEach((key, value) -> values.put(key, String.valueOf(value)));
+        }
+        return values;
+    }
+}
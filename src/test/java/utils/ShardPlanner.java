@@ -0,0 +1,262 @@
+package utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import io.cucumber.gherkin.GherkinParser;
+import io.cucumber.junit.CucumberOptions;
+import io.cucumber.messages.types.Envelope;
+import io.cucumber.messages.types.Examples;
+import io.cucumber.messages.types.FeatureChild;
+import io.cucumber.messages.types.GherkinDocument;
+import io.cucumber.messages.types.Pickle;
+import io.cucumber.messages.types.PickleTag;
+import io.cucumber.messages.types.RuleChild;
+import io.cucumber.messages.types.Scenario;
+import io.cucumber.messages.types.TableRow;
+import io.cucumber.tagexpressions.Expression;
+import io.cucumber.tagexpressions.TagExpressionParser;
+
+/**
+ * Splits the runner's scenarios into balanced shards (pom.xml "shard" profile, process-test-classes).
+ *
+ * Every scenario selected by the runner's features and tags is weighed by its recorded duration
+ * (see ScenarioDurations); scenarios without history count as the median, and with no history at
+ * all every scenario weighs the same, which balances by count. Scenarios are then dealt
+ * longest-first to the least loaded shard. The plan only depends on the feature files and the
+ * history file, so every machine computes the same split without talking to the others.
+ *
+ * The chosen shard is written as a Cucumber rerun file (feature:line:line per feature), which the
+ * runner reads through -Dcucumber.features=@file.
+ *
+ * Usage: ShardPlanner &lt;runner class&gt; &lt;test-classes dir&gt; &lt;shardIndex&gt; &lt;shardCount&gt; &lt;output file&gt;
+ */
+public final class ShardPlanner {
+    private static final Log log = Log.get(ShardPlanner.class);
+
+    /** One executable scenario (an outline contributes one per example row). */
+    public static final class PlannedScenario {
+        private final String uri;
+        private final long line;
+        private final String name;
+        private final String key;
+        private final long weight;
+
+        PlannedScenario(String uri, long line, String name, String key, long weight) {
+            this.uri = uri;
+            this.line = line;
+            this.name = name;
+            this.key = key;
+            this.weight = weight;
+        }
+
+        public String getUri() {
+            return uri;
+        }
+
+        public long getLine() {
+            return line;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        // Expected duration in ms (1 per scenario when there is no history)
+        public long getWeight() {
+            return weight;
+        }
+
+        // History key (see ScenarioDurations), which unlike the line survives rows added to a sheet
+        public String getKey() {
+            return key;
+        }
+    }
+
+    private ShardPlanner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 5) {
+            throw new IllegalArgumentException(
+                "Usage: ShardPlanner <runner class> <test-classes dir> <shardIndex> <shardCount> <output file>");
+        }
+        Class<?> runner = Class.forName(args[0]);
+        Path classesDir = Paths.get(args[1]);
+        int shardIndex = Integer.parseInt(args[2]);
+        int shardCount = Integer.parseInt(args[3]);
+        Path output = Paths.get(args[4]);
+        if (shardCount < 1 || shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalArgumentException("shardIndex must be in [0, shardCount): " + shardIndex + "/" + shardCount);
+        }
+
+        try {
+            CucumberOptions options = runner.getAnnotation(CucumberOptions.class);
+            if (options == null) {
+                throw new IllegalArgumentException(runner.getName() + " has no @CucumberOptions");
+            }
+            String tags = ConfigReader.get("cucumber.filter.tags", options.tags());
+
+            ScenarioDurations history = ScenarioDurations.load(ScenarioDurations.defaultFile());
+            List<PlannedScenario> scenarios = new ArrayList<>();
+            for (String feature : options.features()) {
+                scenarios.addAll(collect(classesDir, feature, tags, history));
+            }
+
+            List<List<PlannedScenario>> shards = plan(scenarios, shardCount);
+            logPlan(shards, history);
+            writeRerunFile(shards.get(shardIndex), output);
+            log.info("🧩 Shard " + shardIndex + "/" + shardCount + ": " + shards.get(shardIndex).size()
+                + " scenario(s) written to " + output);
+        } finally {
+            Log.flush(5, TimeUnit.SECONDS);
+        }
+    }
+
+    // Longest-first greedy split; ties are broken by feature and line so every machine gets the same plan
+    public static List<List<PlannedScenario>> plan(List<PlannedScenario> scenarios, int shardCount) {
+        List<PlannedScenario> ordered = new ArrayList<>(scenarios);
+        ordered.sort(Comparator.comparingLong(PlannedScenario::getWeight).reversed()
+            .thenComparing(PlannedScenario::getUri)
+            .thenComparingLong(PlannedScenario::getLine));
+
+        List<List<PlannedScenario>> shards = new ArrayList<>();
+        long[] load = new long[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new ArrayList<>());
+        }
+        for (PlannedScenario scenario : ordered) {
+            int lightest = 0;
+            for (int i = 1; i < shardCount; i++) {
+                if (load[i] < load[lightest]) {
+                    lightest = i;
+                }
+            }
+            shards.get(lightest).add(scenario);
+            load[lightest] += scenario.getWeight();
+        }
+        return shards;
+    }
+
+    // Pickles of the feature files under a runner feature path ("classpath:features" or a directory/file)
+    static List<PlannedScenario> collect(Path classesDir, String featurePath, String tags, ScenarioDurations history)
+            throws IOException {
+        boolean onClasspath = featurePath.startsWith("classpath:");
+        String relative = onClasspath ? featurePath.substring("classpath:".length()).replaceFirst("^/+", "") : featurePath;
+        Path root = onClasspath ? classesDir.resolve(relative) : Paths.get(relative);
+        Expression tagFilter = tags.trim().isEmpty() ? null : TagExpressionParser.parse(tags);
+        long fallback = Math.max(history.median(), 1);
+
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(root)) {
+            files = walk.filter(p -> p.toString().endsWith(".feature")).sorted().collect(Collectors.toList());
+        }
+
+        List<PlannedScenario> scenarios = new ArrayList<>();
+        GherkinParser parser = GherkinParser.builder().includeSource(false).build();
+        for (Path file : files) {
+            String uri = onClasspath
+                ? "classpath:" + classesDir.relativize(file).toString().replace('\\', '/')
+                : file.toString().replace('\\', '/');
+            Map<String, Long> lines = new HashMap<>();
+            Map<Long, String> keys = new HashMap<>();
+            List<Pickle> pickles = new ArrayList<>();
+            try (Stream<Envelope> envelopes = parser.parse(file)) {
+                envelopes.forEach(envelope -> {
+                    envelope.getGherkinDocument().ifPresent(document -> {
+                        lines.putAll(astNodeLines(document));
+                        keys.putAll(ScenarioDurations.keys(uri, document));
+                    });
+                    envelope.getPickle().ifPresent(pickles::add);
+                });
+            }
+            for (Pickle pickle : pickles) {
+                List<String> tagNames = pickle.getTags().stream().map(PickleTag::getName).collect(Collectors.toList());
+                if (tagFilter != null && !tagFilter.evaluate(tagNames)) {
+                    continue;
+                }
+                List<String> astNodeIds = pickle.getAstNodeIds();
+                long line = lines.getOrDefault(astNodeIds.get(astNodeIds.size() - 1), 0L);
+                String key = keys.get(line);
+                long known = history.get(key);
+                long weight = history.isEmpty() ? 1 : (known >= 0 ? known : fallback);
+                scenarios.add(new PlannedScenario(uri, line, pickle.getName(), key, weight));
+            }
+        }
+        return scenarios;
+    }
+
+    // Scenario and example row ids -> line, which is how Cucumber addresses a pickle in "feature:line"
+    private static Map<String, Long> astNodeLines(GherkinDocument document) {
+        Map<String, Long> lines = new HashMap<>();
+        document.getFeature().ifPresent(feature -> {
+            for (FeatureChild child : feature.getChildren()) {
+                child.getScenario().ifPresent(scenario -> addScenarioLines(scenario, lines));
+                child.getRule().ifPresent(rule -> {
+                    for (RuleChild ruleChild : rule.getChildren()) {
+                        ruleChild.getScenario().ifPresent(scenario -> addScenarioLines(scenario, lines));
+                    }
+                });
+            }
+        });
+        return lines;
+    }
+
+    private static void addScenarioLines(Scenario scenario, Map<String, Long> lines) {
+        lines.put(scenario.getId(), scenario.getLocation().getLine());
+        for (Examples examples : scenario.getExamples()) {
+            for (TableRow row : examples.getTableBody()) {
+                lines.put(row.getId(), row.getLocation().getLine());
+            }
+        }
+    }
+
+    private static void writeRerunFile(List<PlannedScenario> shard, Path output) {
+        Map<String, List<Long>> linesByFeature = new TreeMap<>();
+        for (PlannedScenario scenario : shard) {
+            linesByFeature.computeIfAbsent(scenario.getUri(), uri -> new ArrayList<>()).add(scenario.getLine());
+        }
+
+        List<String> rerun = new ArrayList<>();
+        for (Map.Entry<String, List<Long>> feature : linesByFeature.entrySet()) {
+            List<Long> lines = feature.getValue();
+            Collections.sort(lines);
+            rerun.add(feature.getKey() + lines.stream().map(line -> ":" + line).collect(Collectors.joining()));
+        }
+        if (rerun.isEmpty()) {
+            log.warn("⚠️ Shard is empty (more shards than scenarios) - it will run nothing");
+        }
+        try {
+            Files.createDirectories(output.toAbsolutePath().getParent());
+            Files.write(output, rerun, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write shard file " + output, e);
+        }
+    }
+
+    private static void logPlan(List<List<PlannedScenario>> shards, ScenarioDurations history) {
+        String basis = history.isEmpty() ? "scenario counts (no duration history yet)"
+            : history.size() + " recorded durations";
+        log.info("🧩 Planned " + shards.size() + " shard(s) from " + basis);
+
+        for (int i = 0; i < shards.size(); i++) {
+            long total = shards.get(i).stream().mapToLong(PlannedScenario::getWeight).sum();
+            log.info("   shard " + i + ": " + shards.get(i).size() + " scenario(s)"
+                + (history.isEmpty() ? "" : ", ~" + total / 1000 + " s"));
+        }
+    }
+}
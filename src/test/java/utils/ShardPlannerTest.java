@@ -0,0 +1,145 @@
+package utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import utils.ShardPlanner.PlannedScenario;
+
+public class ShardPlannerTest {
+
+    private static final String FEATURE = String.join("\n",
+        "@Booking",
+        "Feature: Booking",
+        "",
+        "Scenario Outline: Book row",
+        "  Given booking row <rowIndex>",
+        "",
+        "  Examples:",
+        "  | rowIndex |",
+        "  | 1 |",
+        "  | 2 |",
+        "  | 3 |",
+        "",
+        "@Reset",
+        "Scenario: Reset",
+        "  Given the form is reset",
+        "");
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    @Test
+    public void dealsLongestFirstToTheLightestShard() {
+        List<List<PlannedScenario>> shards = ShardPlanner.plan(Arrays.asList(
+            scenario("a", 1, 5), scenario("a", 2, 4), scenario("a", 3, 3), scenario("a", 4, 3), scenario("a", 5, 3)), 2);
+
+        assertEquals(Arrays.asList("a:1", "a:4"), ids(shards.get(0)));
+        assertEquals(Arrays.asList("a:2", "a:3", "a:5"), ids(shards.get(1)));
+    }
+
+    @Test
+    public void breaksTiesByFeatureAndLineWhateverTheInputOrder() {
+        List<PlannedScenario> scenarios = new ArrayList<>();
+        for (String uri : Arrays.asList("classpath:features/B.feature", "classpath:features/A.feature")) {
+            for (int line = 1; line <= 5; line++) {
+                scenarios.add(scenario(uri, line, 7));
+            }
+        }
+        List<List<String>> expected = planIds(scenarios, 3);
+        assertEquals(Arrays.asList("classpath:features/A.feature:1", "classpath:features/A.feature:4",
+            "classpath:features/B.feature:2", "classpath:features/B.feature:5"), expected.get(0));
+
+        Random random = new Random(42);
+        for (int i = 0; i < 20; i++) {
+            Collections.shuffle(scenarios, random);
+            assertEquals(expected, planIds(scenarios, 3));
+        }
+    }
+
+    @Test
+    public void leavesExtraShardsEmptyWhenThereAreMoreShardsThanScenarios() {
+        List<List<PlannedScenario>> shards = ShardPlanner.plan(Arrays.asList(scenario("a", 1, 1), scenario("a", 2, 1)), 4);
+
+        assertEquals(4, shards.size());
+        assertEquals(Collections.singletonList("a:1"), ids(shards.get(0)));
+        assertEquals(Collections.singletonList("a:2"), ids(shards.get(1)));
+        assertTrue(shards.get(2).isEmpty());
+        assertTrue(shards.get(3).isEmpty());
+    }
+
+    @Test
+    public void weighsEveryScenarioTheSameWithoutHistory() throws IOException {
+        Path classes = writeFeature();
+
+        List<PlannedScenario> scenarios = ShardPlanner.collect(classes, "classpath:features", "", new ScenarioDurations());
+
+        assertEquals(4, scenarios.size());
+        for (PlannedScenario scenario : scenarios) {
+            assertEquals(1, scenario.getWeight());
+        }
+        List<List<PlannedScenario>> shards = ShardPlanner.plan(scenarios, 2);
+        assertEquals(2, shards.get(0).size());
+        assertEquals(2, shards.get(1).size());
+    }
+
+    @Test
+    public void weighsScenariosWithoutHistoryAsTheMedian() throws IOException {
+        Path classes = writeFeature();
+        ScenarioDurations history = new ScenarioDurations();
+        history.record("features/Booking.feature:Book row#1", 100);
+        history.record("features/Booking.feature:Book row#2", 300);
+        history.record("features/Booking.feature:Reset", 900);
+
+        List<PlannedScenario> scenarios = ShardPlanner.collect(classes, "classpath:features", "", history);
+
+        assertEquals(Arrays.asList(100L, 300L, 300L, 900L),
+            scenarios.stream().map(PlannedScenario::getWeight).collect(Collectors.toList()));
+        assertEquals("features/Booking.feature:Book row#3", scenarios.get(2).getKey());
+        assertEquals("classpath:features/Booking.feature", scenarios.get(2).getUri());
+        assertEquals(11, scenarios.get(2).getLine());
+    }
+
+    @Test
+    public void appliesTheTagFilter() throws IOException {
+        Path classes = writeFeature();
+
+        List<PlannedScenario> scenarios = ShardPlanner.collect(classes, "classpath:features", "@Reset", new ScenarioDurations());
+
+        assertEquals(Collections.singletonList("Reset"),
+            scenarios.stream().map(PlannedScenario::getName).collect(Collectors.toList()));
+    }
+
+    private Path writeFeature() throws IOException {
+        Path classes = temp.newFolder("test-classes").toPath();
+        Path features = Files.createDirectories(classes.resolve("features"));
+        Files.write(features.resolve("Booking.feature"), FEATURE.getBytes(StandardCharsets.UTF_8));
+        return classes;
+    }
+
+    private static PlannedScenario scenario(String uri, long line, long weight) {
+        return new PlannedScenario(uri, line, "scenario", uri + ":" + line, weight);
+    }
+
+    private static List<List<String>> planIds(List<PlannedScenario> scenarios, int shardCount) {
+        return ShardPlanner.plan(scenarios, shardCount).stream().map(ShardPlannerTest::ids).collect(Collectors.toList());
+    }
+
+    private static List<String> ids(List<PlannedScenario> shard) {
+        return shard.stream().map(PlannedScenario::getKey).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,351 @@
+package utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonOutput;
+
+import io.cucumber.htmlformatter.MessagesToHtmlWriter;
+import io.cucumber.messages.types.Envelope;
+import io.cucumber.messages.types.TestRunStarted;
+import io.cucumber.messages.types.Timestamp;
+
+/**
+ * Combines the per-shard message files (target/shards/shard-N.ndjson) into one cucumber-reports.html.
+ *
+ * Each shard parses the feature files it runs on its own, so the same feature arrives once per
+ * shard with different ids. The first copy of every feature is kept, and the other shards' test
+ * cases are pointed at its scenarios (matched by feature and line); step definitions and hooks are
+ * de-duplicated the same way. Everything that happened in one shard only (test cases, step results,
+ * attachments) is kept as is. The run counts as passed
+ * only if every shard passed.
+ *
+ * The durations each shard measured (target/shards/durations-N.txt, see TimingPlugin) are folded
+ * into the duration history, so the next sharded run is balanced on them.
+ *
+ * Usage: ShardReportMerger &lt;shards dir&gt; &lt;output html&gt;
+ */
+public final class ShardReportMerger {
+    private static final Log log = Log.get(ShardReportMerger.class);
+
+    private static final Json JSON = new Json();
+
+    // Emitted once, before the test run, in this order
+    private static final List<String> DEFINITIONS = List.of(
+        "source", "gherkinDocument", "pickle", "parameterType", "undefinedParameterType", "stepDefinition", "hook", "parseError");
+
+    private Map<String, Object> meta;
+    private final Map<String, List<Map<String, Object>>> definitions = new HashMap<>();
+    private final List<Map<String, Object>> execution = new ArrayList<>();
+    private Map<String, Object> runStarted;
+    private Map<String, Object> runFinished;
+    private boolean success = true;
+
+    // Canonical pickles by "uri:line[:line]" and the uris whose feature has been taken from a shard
+    private final Map<String, Map<String, Object>> picklesByLocation = new HashMap<>();
+    private final Map<String, Integer> featureOwner = new HashMap<>();
+
+    // Step definitions and hooks are the same in every shard: kept id by definition (without its id)
+    private final Map<String, String> glueByDefinition = new HashMap<>();
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: ShardReportMerger <shards dir> <output html>");
+        }
+        Path shardsDir = Paths.get(args[0]);
+        Path output = Paths.get(args[1]);
+
+        try {
+            List<Path> shardFiles;
+            try (Stream<Path> files = Files.list(shardsDir)) {
+                shardFiles = files.filter(f -> f.toString().endsWith(".ndjson")).sorted().collect(Collectors.toList());
+            }
+            if (shardFiles.isEmpty()) {
+                throw new IllegalStateException("No shard results (*.ndjson) in " + shardsDir);
+            }
+
+            ShardReportMerger merger = new ShardReportMerger();
+            for (int shard = 0; shard < shardFiles.size(); shard++) {
+                merger.addShard(shard, read(shardFiles.get(shard)));
+            }
+            merger.writeHtml(output);
+            log.info("🧩 Merged " + shardFiles.size() + " shard result(s) into " + output
+                + (merger.success ? " (all passed)" : " (failures present)"));
+
+            updateHistory(shardsDir);
+        } finally {
+            Log.flush(5, TimeUnit.SECONDS);
+        }
+    }
+
+    // Folds the per-shard measurements into the shared duration history
+    private static void updateHistory(Path shardsDir) throws IOException {
+        List<Path> measured;
+        try (Stream<Path> files = Files.list(shardsDir)) {
+            measured = files.filter(f -> f.getFileName().toString().matches("durations-\\d+\\.txt"))
+                .sorted().collect(Collectors.toList());
+        }
+        if (measured.isEmpty()) {
+            return;
+        }
+        Path historyFile = ScenarioDurations.defaultFile();
+        ScenarioDurations history = ScenarioDurations.load(historyFile);
+        int count = 0;
+        for (Path file : measured) {
+            ScenarioDurations shard = ScenarioDurations.load(file);
+            for (String key : shard.keys()) {
+                history.record(key, shard.get(key));
+                count++;
+            }
+        }
+        history.save(historyFile);
+        log.info("⏱️ Updated " + count + " scenario duration(s) in " + historyFile);
+    }
+
+    private static List<Map<String, Object>> read(Path file) throws IOException {
+        List<Map<String, Object>> envelopes = new ArrayList<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (!line.trim().isEmpty()) {
+                envelopes.add(JSON.toType(line, Json.MAP_TYPE));
+            }
+        }
+        return envelopes;
+    }
+
+    private void addShard(int shard, List<Map<String, Object>> envelopes) {
+        // Ids in this shard's documents -> line, and the uris this shard contributes
+        Map<String, Long> astLines = new HashMap<>();
+        for (Map<String, Object> envelope : envelopes) {
+            Map<String, Object> document = message(envelope, "gherkinDocument");
+            if (document != null) {
+                collectLines(map(document.get("feature")), astLines);
+                featureOwner.putIfAbsent((String) document.get("uri"), shard);
+            }
+        }
+
+        Map<String, String> pickleIds = new HashMap<>();
+        Map<String, String> pickleStepIds = new HashMap<>();
+        Map<String, String> glueIds = new HashMap<>();
+
+        for (Map<String, Object> envelope : envelopes) {
+            String type = envelope.keySet().iterator().next();
+            Map<String, Object> message = map(envelope.get(type));
+
+            switch (type) {
+                case "meta":
+                    if (meta == null) {
+                        meta = envelope;
+                    }
+                    break;
+                case "source":
+                case "gherkinDocument":
+                    if (featureOwner.get((String) message.get("uri")) == shard) {
+                        definitions.computeIfAbsent(type, t -> new ArrayList<>()).add(envelope);
+                    }
+                    break;
+                case "pickle":
+                    String location = pickleLocation(message, astLines);
+                    if (featureOwner.get((String) message.get("uri")) == shard) {
+                        picklesByLocation.put(location, message);
+                        definitions.computeIfAbsent(type, t -> new ArrayList<>()).add(envelope);
+                    } else {
+                        mapPickle(message, location, pickleIds, pickleStepIds);
+                    }
+                    break;
+                case "stepDefinition":
+                case "hook":
+                    String id = (String) message.remove("id");
+                    String definition = type + toJson(message);
+                    message.put("id", id);
+                    String kept = glueByDefinition.putIfAbsent(definition, id);
+                    if (kept == null) {
+                        definitions.computeIfAbsent(type, t -> new ArrayList<>()).add(envelope);
+                    } else {
+                        glueIds.put(id, kept);
+                    }
+                    break;
+                case "testRunStarted":
+                    if (runStarted == null || nanos(message.get("timestamp")) < nanos(runStarted.get("timestamp"))) {
+                        runStarted = message;
+                    }
+                    break;
+                case "testRunFinished":
+                    success &= Boolean.TRUE.equals(message.get("success"));
+                    if (runFinished == null || nanos(message.get("timestamp")) > nanos(runFinished.get("timestamp"))) {
+                        runFinished = message;
+                    }
+                    break;
+                case "testCase":
+                    String pickleId = (String) message.get("pickleId");
+                    message.put("pickleId", pickleIds.getOrDefault(pickleId, pickleId));
+                    for (Object step : list(message.get("testSteps"))) {
+                        Map<String, Object> testStep = map(step);
+                        Object pickleStepId = testStep.get("pickleStepId");
+                        if (pickleStepId != null) {
+                            testStep.put("pickleStepId", pickleStepIds.getOrDefault(pickleStepId, (String) pickleStepId));
+                        }
+                        Object hookId = testStep.get("hookId");
+                        if (hookId != null) {
+                            testStep.put("hookId", glueIds.getOrDefault(hookId, (String) hookId));
+                        }
+                        List<Object> stepDefinitionIds = new ArrayList<>();
+                        for (Object stepDefinitionId : list(testStep.get("stepDefinitionIds"))) {
+                            stepDefinitionIds.add(glueIds.getOrDefault(stepDefinitionId, (String) stepDefinitionId));
+                        }
+                        if (testStep.containsKey("stepDefinitionIds")) {
+                            testStep.put("stepDefinitionIds", stepDefinitionIds);
+                        }
+                    }
+                    execution.add(envelope);
+                    break;
+                default:
+                    if (DEFINITIONS.contains(type)) {
+                        definitions.computeIfAbsent(type, t -> new ArrayList<>()).add(envelope);
+                    } else {
+                        execution.add(envelope);
+                    }
+            }
+        }
+    }
+
+    // Points a duplicate pickle (and its steps) at the kept copy with the same location
+    private void mapPickle(Map<String, Object> pickle, String location,
+                           Map<String, String> pickleIds, Map<String, String> pickleStepIds) {
+        Map<String, Object> kept = picklesByLocation.get(location);
+        if (kept == null) {
+            throw new IllegalStateException("Shards ran different versions of " + pickle.get("uri")
+                + " (no scenario at " + location + " in the first shard that ran it)");
+        }
+        pickleIds.put((String) pickle.get("id"), (String) kept.get("id"));
+        List<Object> steps = list(pickle.get("steps"));
+        List<Object> keptSteps = list(kept.get("steps"));
+        for (int i = 0; i < steps.size() && i < keptSteps.size(); i++) {
+            pickleStepIds.put((String) map(steps.get(i)).get("id"), (String) map(keptSteps.get(i)).get("id"));
+        }
+    }
+
+    // "uri:scenarioLine[:exampleRowLine]"
+    private static String pickleLocation(Map<String, Object> pickle, Map<String, Long> astLines) {
+        StringBuilder location = new StringBuilder((String) pickle.get("uri"));
+        for (Object astNodeId : list(pickle.get("astNodeIds"))) {
+            location.append(':').append(astLines.get(astNodeId));
+        }
+        return location.toString();
+    }
+
+    private static void collectLines(Map<String, Object> feature, Map<String, Long> lines) {
+        if (feature == null) {
+            return;
+        }
+        for (Object child : list(feature.get("children"))) {
+            Map<String, Object> featureChild = map(child);
+            addScenarioLines(map(featureChild.get("scenario")), lines);
+            Map<String, Object> rule = map(featureChild.get("rule"));
+            if (rule != null) {
+                for (Object ruleChild : list(rule.get("children"))) {
+                    addScenarioLines(map(map(ruleChild).get("scenario")), lines);
+                }
+            }
+        }
+    }
+
+    private static void addScenarioLines(Map<String, Object> scenario, Map<String, Long> lines) {
+        if (scenario == null) {
+            return;
+        }
+        lines.put((String) scenario.get("id"), line(scenario));
+        for (Object examples : list(scenario.get("examples"))) {
+            for (Object row : list(map(examples).get("tableBody"))) {
+                lines.put((String) map(row).get("id"), line(map(row)));
+            }
+        }
+    }
+
+    private static long line(Map<String, Object> node) {
+        return ((Number) map(node.get("location")).get("line")).longValue();
+    }
+
+    private void writeHtml(Path output) throws IOException {
+        List<Map<String, Object>> merged = new ArrayList<>();
+        if (meta != null) {
+            merged.add(meta);
+        }
+        for (String type : DEFINITIONS) {
+            merged.addAll(definitions.getOrDefault(type, List.of()));
+        }
+        if (runStarted != null) {
+            merged.add(Map.of("testRunStarted", runStarted));
+        }
+        merged.addAll(execution);
+        if (runFinished != null) {
+            runFinished.put("success", success);
+            merged.add(Map.of("testRunFinished", runFinished));
+        }
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        JsonPassThrough serializer = new JsonPassThrough();
+        try (OutputStream out = Files.newOutputStream(output);
+             MessagesToHtmlWriter html = new MessagesToHtmlWriter(out, serializer)) {
+            for (Map<String, Object> envelope : merged) {
+                serializer.next = toJson(envelope);
+                html.write(JsonPassThrough.PLACEHOLDER);
+            }
+        }
+    }
+
+    private static String toJson(Object value) {
+        StringBuilder json = new StringBuilder();
+        try (JsonOutput out = JSON.newOutput(json)) {
+            out.setPrettyPrint(false).write(value);
+        }
+        // The messages are embedded in a <script> block
+        return json.toString().replace("</", "<\\/");
+    }
+
+    // MessagesToHtmlWriter only hands each envelope to its serializer; the merged messages are already JSON
+    private static final class JsonPassThrough implements MessagesToHtmlWriter.Serializer {
+        static final Envelope PLACEHOLDER = Envelope.of(new TestRunStarted(new Timestamp(0L, 0L)));
+
+        String next;
+
+        @Override
+        public void writeValue(Writer writer, Envelope ignored) throws IOException {
+            writer.write(next);
+        }
+    }
+
+    private static Map<String, Object> message(Map<String, Object> envelope, String type) {
+        return map(envelope.get(type));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> map(Object value) {
+        return value instanceof Map ? (Map<String, Object>) value : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> list(Object value) {
+        return value instanceof List ? (List<Object>) value : List.of();
+    }
+
+    private static long nanos(Object timestamp) {
+        Map<String, Object> value = map(timestamp);
+        if (value == null) {
+            return 0;
+        }
+        return ((Number) value.get("seconds")).longValue() * 1_000_000_000L + ((Number) value.get("nanos")).longValue();
+    }
+}
@@ -0,0 +1,104 @@
+package utils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, fully parsed copy of one Excel sheet.
+ * Row 0 is the header; data rows keep their physical row numbers so lookups match ExcelReader.
+ */
+public final class SheetTable {
+
+    private final String name;
+    private final List<String> headers;
+    private final Map<String, Integer> columnIndex;
+    private final String[][] cells;
+    private final List<Map<String, String>> rowMaps;
+
+    SheetTable(String name, List<String> headers, String[][] cells) {
+        this.name = name;
+        this.headers = Collections.unmodifiableList(headers);
+        this.cells = cells;
+
+        Map<String, Integer> index = new LinkedHashMap<>();
+        for (int i = 0; i < headers.size(); i++) {
+            index.put(headers.get(i), i);
+        }
+        this.columnIndex = Collections.unmodifiableMap(index);
+
+        // Pre-build the header -> value view of every row so lookups allocate nothing
+        Map<String, String>[] maps = newMapArray(cells.length);
+        for (int r = 1; r < cells.length; r++) {
+            if (cells[r] == null) {
+                continue;
+            }
+            Map<String, String> row = new LinkedHashMap<>();
+            for (int c = 0; c < headers.size(); c++) {
+                row.put(headers.get(c), cell(r, c));
+            }
+            maps[r] = Collections.unmodifiableMap(row);
+        }
+        this.rowMaps = Arrays.asList(maps);
+    }
+
+    // Generic arrays cannot be created directly, so the raw Map[] is cast
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Map<String, String>[] newMapArray(int size) {
+        return (Map<String, String>[]) new Map[size];
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<String> getHeaders() {
+        return headers;
+    }
+
+    // Returns the column position of a header, or -1 if the sheet has no such column
+    public int columnIndex(String header) {
+        Integer index = columnIndex.get(header);
+        return index != null ? index : -1;
+    }
+
+    // Highest physical row number in the sheet (header is row 0)
+    public int lastRowNumber() {
+        return cells.length - 1;
+    }
+
+    public boolean hasRow(int rowNumber) {
+        return rowNumber >= 0 && rowNumber < cells.length && cells[rowNumber] != null;
+    }
+
+    // Header -> value view of a data row, or null if the row does not exist
+    public Map<String, String> row(int rowNumber) {
+        return rowNumber > 0 && rowNumber < cells.length ? rowMaps.get(rowNumber) : null;
+    }
+
+    // Number of cells stored for a row (0 for missing rows)
+    public int rowWidth(int rowNumber) {
+        return hasRow(rowNumber) ? cells[rowNumber].length : 0;
+    }
+
+    // True when every cell of the row is empty (or the row does not exist)
+    public boolean isBlankRow(int rowNumber) {
+        for (int c = 0; c < rowWidth(rowNumber); c++) {
+            if (!cell(rowNumber, c).trim().isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Cell value as string ("" for missing rows or cells)
+    public String cell(int rowNumber, int columnNumber) {
+        if (!hasRow(rowNumber) || columnNumber < 0 || columnNumber >= cells[rowNumber].length) {
+            return "";
+        }
+        String value = cells[rowNumber][columnNumber];
+        return value != null ? value : "";
+    }
+}
@@ -0,0 +1,114 @@
+package utils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts fixed sleeps (Thread.sleep, TimeUnit.sleep) made by page objects, step definitions and hooks
+ * on the watched scenario threads.
+ *
+ * A sleep cannot be intercepted, so a daemon thread samples the stacks of the watched threads every
+ * sleepSampleMillis. A sample that finds a thread inside Thread.sleep called from one of those packages
+ * starts a sleep; consecutive samples at the same call site are the same sleep. Sleeps in Selenium's
+ * own waits (FluentWait polling) are not counted, and a sleep shorter than the sample interval can be
+ * missed. Only scenarios with a sleeps budget are watched, so normal runs pay nothing.
+ *
+ * Config key: sleepSampleMillis (default 20)
+ */
+final class SleepDetector {
+    private static final Log log = Log.get(SleepDetector.class);
+
+    private static final String[] SCENARIO_PACKAGES = {"pages.", "stepDefinitions.", "hooks."};
+    private static final long SAMPLE_MILLIS = Math.max(1, ConfigReader.getInt("sleepSampleMillis", 20));
+    private static final int STACK_DEPTH = 12;
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final Map<Long, Watched> WATCHED = new ConcurrentHashMap<>();
+    private static volatile ScheduledExecutorService sampler;
+
+    private SleepDetector() {
+    }
+
+    static void watch(Thread thread) {
+        WATCHED.put(thread.getId(), new Watched());
+        startSampler();
+    }
+
+    static void unwatch(Thread thread) {
+        WATCHED.remove(thread.getId());
+    }
+
+    // Sleeps seen on the thread since watch(), 0 when it is not watched
+    static int sleeps(Thread thread) {
+        Watched watched = WATCHED.get(thread.getId());
+        return watched != null ? watched.sleeps : 0;
+    }
+
+    private static void startSampler() {
+        if (sampler == null) {
+            synchronized (SleepDetector.class) {
+                if (sampler == null) {
+                    ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                        Thread thread = new Thread(runnable, "sleep-detector");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    executor.scheduleAtFixedRate(SleepDetector::sample, SAMPLE_MILLIS, SAMPLE_MILLIS, TimeUnit.MILLISECONDS);
+                    sampler = executor;
+                }
+            }
+        }
+    }
+
+    private static void sample() {
+        if (WATCHED.isEmpty()) {
+            return;
+        }
+        long[] ids = WATCHED.keySet().stream().mapToLong(Long::longValue).toArray();
+        for (ThreadInfo info : THREADS.getThreadInfo(ids, STACK_DEPTH)) {
+            Watched watched = info != null ? WATCHED.get(info.getThreadId()) : null;
+            if (watched == null) {
+                continue;
+            }
+            StackTraceElement caller = sleepCaller(info.getStackTrace());
+            if (caller != null && !caller.equals(watched.lastCaller)) {
+                watched.sleeps++;
+                log.warn("💤 Fixed sleep on " + info.getThreadName() + " in " + caller.getClassName() + "."
+                    + caller.getMethodName() + "(" + caller.getFileName() + ":" + caller.getLineNumber() + ")");
+            }
+            watched.lastCaller = caller;
+        }
+    }
+
+    // The scenario code frame that called Thread.sleep, or null when the thread is not in such a sleep
+    private static StackTraceElement sleepCaller(StackTraceElement[] stack) {
+        if (stack.length == 0 || !"java.lang.Thread".equals(stack[0].getClassName())
+            || !stack[0].getMethodName().startsWith("sleep")) {
+            return null;
+        }
+        for (StackTraceElement frame : stack) {
+            if (frame.getClassName().startsWith("java.")) {
+                continue;
+            }
+            for (String prefix : SCENARIO_PACKAGES) {
+                if (frame.getClassName().startsWith(prefix)) {
+                    return frame;
+                }
+            }
+            return null;
+        }
+        return null;
+    }
+
+    // Written by the sampler thread only, read by the scenario thread
+    private static final class Watched {
+        private volatile int sleeps;
+        private volatile StackTraceElement lastCaller;
+    }
+}
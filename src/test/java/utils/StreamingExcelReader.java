@@ -0,0 +1,296 @@
+package utils;
+
+import java.io.InputStream;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+/**
+ * Streaming (SAX) reader for large .xlsx sheets.
+ *
+ * Rows are parsed one at a time from the sheet XML and handed to a callback, so memory stays
+ * constant no matter how many rows the sheet has. readAll() uses the same parse to build the
+ * SheetTables of TestDataStore when excelMode=streaming: only the cell strings are kept, never
+ * POI's in-memory workbook. Values are formatted the same way as ExcelReader (dates as dd/MM/yyyy,
+ * whole numbers without ".0", trimmed strings).
+ */
+public class StreamingExcelReader {
+    private static final Log log = Log.get(StreamingExcelReader.class);
+
+    /** Callback for each data row; return false to stop reading the rest of the sheet. */
+    public interface RowHandler {
+        boolean handle(StreamingRow row);
+    }
+
+    /**
+     * Reusable view of the current row. Only valid inside RowHandler.handle - use toMap() to keep a copy.
+     */
+    public static final class StreamingRow {
+        private final List<String> headers;
+        private final Map<String, Integer> columnIndex;
+        private final String[] values;
+        private int rowNumber;
+
+        StreamingRow(List<String> headers) {
+            this.headers = headers;
+            this.values = new String[headers.size()];
+            this.columnIndex = new HashMap<>();
+            for (int i = 0; i < headers.size(); i++) {
+                columnIndex.put(headers.get(i), i);
+            }
+        }
+
+        public int getRowNumber() {
+            return rowNumber;
+        }
+
+        public List<String> getHeaders() {
+            return headers;
+        }
+
+        public String get(int column) {
+            return column >= 0 && column < values.length ? values[column] : "";
+        }
+
+        public String get(String header) {
+            Integer column = columnIndex.get(header);
+            return column != null ? values[column] : "";
+        }
+
+        public boolean isBlank() {
+            for (String value : values) {
+                if (!value.isEmpty()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        public Map<String, String> toMap() {
+            Map<String, String> copy = new LinkedHashMap<>();
+            for (int i = 0; i < values.length; i++) {
+                copy.put(headers.get(i), values[i]);
+            }
+            return copy;
+        }
+
+        void start(int rowNumber) {
+            this.rowNumber = rowNumber;
+            Arrays.fill(values, "");
+        }
+
+        void set(int column, String value) {
+            if (column < values.length) {
+                values[column] = value;
+            }
+        }
+    }
+
+    // Streams every data row of the sheet (row 0 is the header) until the handler returns false
+    public void forEachRow(String filePath, String sheetName, RowHandler handler) {
+        try (OPCPackage pkg = OPCPackage.open(filePath, PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg, false);
+            StylesTable styles = reader.getStylesTable();
+
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            while (sheets.hasNext()) {
+                try (InputStream sheet = sheets.next()) {
+                    if (!sheets.getSheetName().equals(sheetName)) {
+                        continue;
+                    }
+                    XMLReader parser = newParser(styles, strings, new RowCollector(handler));
+                    try {
+                        parser.parse(new InputSource(sheet));
+                    } catch (StopReading stop) {
+                        // Handler asked to stop early
+                    }
+                    return;
+                }
+            }
+            log.error("❌ Sheet not found: " + sheetName);
+
+        } catch (Exception e) {
+            throw new IllegalStateException("Error streaming Excel file " + filePath + ": " + e.getMessage(), e);
+        }
+    }
+
+    // Every sheet as a SheetTable (physical row numbers, row 0 the header), parsed without the POI workbook.
+    // Cells without a value produce no SAX event, so trailing empty cells (and headers) are not kept.
+    public Map<String, SheetTable> readAll(String filePath) {
+        try (OPCPackage pkg = OPCPackage.open(filePath, PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg, false);
+            StylesTable styles = reader.getStylesTable();
+
+            Map<String, SheetTable> tables = new LinkedHashMap<>();
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            while (sheets.hasNext()) {
+                try (InputStream sheet = sheets.next()) {
+                    TableCollector collector = new TableCollector();
+                    newParser(styles, strings, collector).parse(new InputSource(sheet));
+                    tables.put(sheets.getSheetName(), collector.toTable(sheets.getSheetName()));
+                }
+            }
+            return tables;
+
+        } catch (Exception e) {
+            throw new IllegalStateException("Error streaming Excel file " + filePath + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static XMLReader newParser(StylesTable styles, ReadOnlySharedStringsTable strings, SheetContentsHandler handler)
+            throws Exception {
+        XMLReader parser = XMLHelper.newXMLReader();
+        parser.setContentHandler(new XSSFSheetXMLHandler(styles, null, strings, handler, new ExcelValueFormatter(), false));
+        return parser;
+    }
+
+    // Single-row lookup that stops parsing as soon as the row has been read
+    public Map<String, String> findRow(String filePath, String sheetName, int rowNumber) {
+        Map<String, String> found = new HashMap<>();
+        forEachRow(filePath, sheetName, row -> {
+            if (row.getRowNumber() == rowNumber) {
+                found.putAll(row.toMap());
+                return false;
+            }
+            return row.getRowNumber() < rowNumber;
+        });
+        return found;
+    }
+
+    // Collects SAX cell events into a StreamingRow and hands completed rows to the RowHandler
+    private static final class RowCollector implements SheetContentsHandler {
+        private final RowHandler handler;
+        private final List<String> headers = new ArrayList<>();
+        private StreamingRow row;
+        private int currentRow;
+        private int nextColumn;
+
+        RowCollector(RowHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            currentRow = rowNum;
+            nextColumn = 0;
+            if (row != null) {
+                row.start(rowNum);
+            }
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = cellReference != null ? new CellReference(cellReference).getCol() : nextColumn;
+            nextColumn = column + 1;
+            String value = formattedValue != null ? formattedValue.trim() : "";
+
+            if (currentRow == 0) {
+                while (headers.size() < column) {
+                    headers.add("");
+                }
+                headers.add(value);
+            } else if (row != null) {
+                row.set(column, value);
+            }
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (rowNum == 0) {
+                row = new StreamingRow(Collections.unmodifiableList(new ArrayList<>(headers)));
+                return;
+            }
+            if (row != null && !handler.handle(row)) {
+                throw new StopReading();
+            }
+        }
+    }
+
+    // Keeps the cell strings of every row of one sheet, for readAll()
+    private static final class TableCollector implements SheetContentsHandler {
+        private final TreeMap<Integer, String[]> rows = new TreeMap<>();
+        private final List<String> current = new ArrayList<>();
+        private int nextColumn;
+
+        @Override
+        public void startRow(int rowNum) {
+            current.clear();
+            nextColumn = 0;
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = cellReference != null ? new CellReference(cellReference).getCol() : nextColumn;
+            nextColumn = column + 1;
+            while (current.size() < column) {
+                current.add("");
+            }
+            current.add(formattedValue != null ? formattedValue.trim() : "");
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            rows.put(rowNum, current.toArray(new String[0]));
+        }
+
+        SheetTable toTable(String name) {
+            int lastRow = rows.isEmpty() ? 0 : rows.lastKey();
+            String[][] cells = new String[lastRow + 1][];
+            rows.forEach((rowNumber, values) -> cells[rowNumber] = values);
+            List<String> headers = new ArrayList<>(Arrays.asList(cells[0] != null ? cells[0] : new String[0]));
+            return new SheetTable(name, headers, cells);
+        }
+    }
+
+    // Formats numeric cells exactly like ExcelReader.getCellValueAsString
+    private static final class ExcelValueFormatter extends DataFormatter {
+        private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString, boolean use1904Windowing) {
+            if (DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(value)) {
+                return DATE_FORMAT.format(DateUtil.getLocalDateTime(value, use1904Windowing).toLocalDate());
+            }
+            if (value == (long) value) {
+                return String.valueOf((long) value);
+            }
+            return String.valueOf(value);
+        }
+    }
+
+    /**
+     * Unwinds the SAX parser when the handler has seen enough rows. XSSFSheetXMLHandler offers no way
+     * to stop a parse early, so the handler throws this and forEachRow() catches it. It is never serialized
+     * and is built without a stack trace, so throwing it costs no more than a return.
+     */
+    private static final class StopReading extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        StopReading() {
+            super(null, null, false, false);
+        }
+    }
+}
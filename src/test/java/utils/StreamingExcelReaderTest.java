@@ -0,0 +1,49 @@
+package utils;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class StreamingExcelReaderTest {
+
+    @Test
+    public void readsTheSameTablesAsThePoiWorkbook() {
+        Map<String, SheetTable> expected = TestDataStore.parseWithUsermodel(Paths.get(TestRows.WORKBOOK));
+        Map<String, SheetTable> streamed = new StreamingExcelReader().readAll(TestRows.WORKBOOK);
+
+        assertEquals(expected.keySet(), streamed.keySet());
+        for (SheetTable sheet : expected.values()) {
+            SheetTable actual = streamed.get(sheet.getName());
+            String name = sheet.getName();
+            // SAX reports no event for a styled cell without a value, so trailing empty headers are not kept
+            assertEquals(name, withoutTrailingBlanks(sheet.getHeaders()), actual.getHeaders());
+            assertEquals(name, sheet.lastRowNumber(), actual.lastRowNumber());
+            for (int r = 0; r <= sheet.lastRowNumber(); r++) {
+                assertEquals(name + " row " + r, sheet.hasRow(r), actual.hasRow(r));
+                assertEquals(name + " row " + r, sheet.isBlankRow(r), actual.isBlankRow(r));
+                for (int c = 0; c < Math.max(sheet.rowWidth(r), actual.rowWidth(r)); c++) {
+                    assertEquals(name + " cell " + r + "," + c, sheet.cell(r, c), actual.cell(r, c));
+                }
+            }
+        }
+    }
+
+    private static List<String> withoutTrailingBlanks(List<String> values) {
+        int end = values.size();
+        while (end > 0 && values.get(end - 1).isEmpty()) {
+            end--;
+        }
+        return values.subList(0, end);
+    }
+
+    @Test
+    public void findsASingleRowByNumber() {
+        Map<String, String> row = new StreamingExcelReader().findRow(TestRows.WORKBOOK, TestRows.BOOKING_SHEET, 2);
+
+        assertEquals(TestDataStore.parseWithUsermodel(Paths.get(TestRows.WORKBOOK)).get(TestRows.BOOKING_SHEET).row(2), row);
+    }
+}
@@ -0,0 +1,189 @@
+package utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Build-time step (pom.xml, process-test-classes) that turns Card.xlsx into test inputs.
+ *
+ * 1. Compiles every sheet into target/test-classes/testdata/Card.xlsx.bin (see CompiledTestData),
+ *    so scenarios read their rows without POI.
+ * 2. Copies the feature files to target/test-classes/features and fills each Examples table tagged
+ *    with @sheet:&lt;sheet name&gt; with one row per non-blank sheet row. A "rowIndex" column gets the
+ *    row number; any other column gets the sheet value under the same header.
+ *
+ * The workbook is parsed through TestDataStore.parseWorkbook, so -DexcelMode=streaming reads it
+ * with StreamingExcelReader (SAX) instead of loading the POI workbook into memory.
+ *
+ * Usage: TestDataCompiler &lt;workbook.xlsx&gt; &lt;test-classes dir&gt; &lt;features source dir&gt;
+ */
+public final class TestDataCompiler {
+    private static final Log log = Log.get(TestDataCompiler.class);
+
+    private static final Pattern SHEET_TAG = Pattern.compile("@sheet:(\\S+)");
+
+    private TestDataCompiler() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            throw new IllegalArgumentException("Usage: TestDataCompiler <workbook.xlsx> <test-classes dir> <features source dir>");
+        }
+        Path workbook = Paths.get(args[0]);
+        Path classesDir = Paths.get(args[1]);
+        Path featureSource = Paths.get(args[2]);
+
+        try {
+            Map<String, SheetTable> sheets = TestDataStore.parseWorkbook(workbook);
+            Path data = classesDir.resolve(CompiledTestData.resourceName(workbook));
+            CompiledTestData.write(workbook, sheets, data);
+            log.info("📦 Compiled " + sheets.size() + " sheet(s) into " + data + " (" + Files.size(data) + " bytes"
+                + (TestDataStore.STREAMING ? ", streamed" : "") + ")");
+
+            Path featureOutput = classesDir.resolve(featureSource.getFileName());
+            try (Stream<Path> features = Files.list(featureSource)) {
+                for (Path feature : (Iterable<Path>) features.filter(f -> f.toString().endsWith(".feature"))::iterator) {
+                    expandFeature(feature, featureOutput.resolve(feature.getFileName()), sheets);
+                }
+            }
+        } finally {
+            Log.flush(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void expandFeature(Path source, Path target, Map<String, SheetTable> sheets) throws IOException {
+        String text = new String(Files.readAllBytes(source), StandardCharsets.UTF_8);
+        String eol = text.contains("\r\n") ? "\r\n" : "\n";
+        String[] lines = text.split("\r?\n", -1);
+
+        List<String> out = new ArrayList<>();
+        String sheetName = null;
+        int generated = 0;
+        for (int i = 0; i < lines.length; i++) {
+            String line = lines[i];
+            String trimmed = line.trim();
+            out.add(line);
+
+            if (trimmed.startsWith("@")) {
+                Matcher tag = SHEET_TAG.matcher(trimmed);
+                if (tag.find()) {
+                    sheetName = tag.group(1);
+                }
+                continue;
+            }
+            if (sheetName == null || trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            if (!trimmed.startsWith("Examples:")) {
+                sheetName = null;
+                continue;
+            }
+
+            // Examples header row, then drop any rows already in the file and generate them from the sheet
+            SheetTable sheet = sheets.get(sheetName);
+            if (sheet == null) {
+                throw new IllegalStateException(source.getFileName() + ": no sheet named '" + sheetName + "'");
+            }
+            int header = i + 1;
+            while (header < lines.length && lines[header].trim().isEmpty()) {
+                out.add(lines[header++]);
+            }
+            if (header >= lines.length || !lines[header].trim().startsWith("|")) {
+                throw new IllegalStateException(source.getFileName() + ": @sheet:" + sheetName + " Examples has no header row");
+            }
+            String headerLine = lines[header];
+            out.add(headerLine);
+            String indent = headerLine.substring(0, headerLine.indexOf('|'));
+            List<String> columns = cells(headerLine);
+
+            for (int r = 1; r <= sheet.lastRowNumber(); r++) {
+                if (!sheet.isBlankRow(r)) {
+                    out.add(indent + tableRow(columns, sheet, r));
+                    generated++;
+                }
+            }
+            i = header;
+            while (i + 1 < lines.length && lines[i + 1].trim().startsWith("|")) {
+                i++;
+            }
+            sheetName = null;
+        }
+
+        Files.createDirectories(target.getParent());
+        Files.write(target, String.join(eol, out).getBytes(StandardCharsets.UTF_8));
+        if (generated > 0) {
+            log.info("🥒 " + source.getFileName() + ": generated " + generated + " Examples row(s)");
+        }
+    }
+
+    /**
+     * Sheet names of the @sheet Examples in a feature's text that have a header but no rows: the
+     * source features look like this until the build fills them in, so running them runs nothing.
+     */
+    static List<String> emptySheetExamples(String featureText) {
+        String[] lines = featureText.split("\r?\n", -1);
+        List<String> empty = new ArrayList<>();
+        String sheetName = null;
+        for (int i = 0; i < lines.length; i++) {
+            String trimmed = lines[i].trim();
+            if (trimmed.startsWith("@")) {
+                Matcher tag = SHEET_TAG.matcher(trimmed);
+                if (tag.find()) {
+                    sheetName = tag.group(1);
+                }
+                continue;
+            }
+            if (sheetName == null || trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            if (trimmed.startsWith("Examples:")) {
+                int rows = -1; // the first table line is the header
+                while (i + 1 < lines.length && (lines[i + 1].trim().isEmpty() || lines[i + 1].trim().startsWith("|"))) {
+                    if (!lines[++i].trim().isEmpty()) {
+                        rows++;
+                    }
+                }
+                if (rows <= 0) {
+                    empty.add(sheetName);
+                }
+            }
+            sheetName = null;
+        }
+        return empty;
+    }
+
+    private static List<String> cells(String tableLine) {
+        List<String> cells = new ArrayList<>();
+        String[] parts = tableLine.trim().split("(?<!\\\\)\\|");
+        for (int p = 1; p < parts.length; p++) {
+            cells.add(parts[p].trim());
+        }
+        return cells;
+    }
+
+    private static String tableRow(List<String> columns, SheetTable sheet, int rowNumber) {
+        StringBuilder row = new StringBuilder("|");
+        for (String column : columns) {
+            String value = column.equalsIgnoreCase("rowIndex")
+                ? String.valueOf(rowNumber)
+                : sheet.cell(rowNumber, sheet.columnIndex(column));
+            row.append(' ').append(escape(value)).append(" |");
+        }
+        return row.toString();
+    }
+
+    // Gherkin table escaping
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("|", "\\|").replace("\n", "\\n");
+    }
+}
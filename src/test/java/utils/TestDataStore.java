@@ -0,0 +1,136 @@
+package utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+
+/**
+ * Process-wide cache of parsed workbooks.
+ *
+ * Each workbook is loaded once into immutable SheetTables and shared by all threads. The build
+ * compiles Card.xlsx into a binary artifact (see TestDataCompiler), which is used instead of POI
+ * whenever it matches the workbook on disk. Otherwise the workbook is parsed with POI's usermodel,
+ * or with StreamingExcelReader (SAX, no in-memory workbook) when excelMode=streaming; the build
+ * step parses through the same switch.
+ * The file's last-modified time is re-checked at most once per second, and a changed file is loaded again.
+ */
+public final class TestDataStore {
+    private static final Log log = Log.get(TestDataStore.class);
+
+    // "cached" (default) parses with the POI usermodel; "streaming" with SAX, keeping only the cell strings
+    static final boolean STREAMING = "streaming".equalsIgnoreCase(ConfigReader.get("excelMode", "cached"));
+
+    private static final long RECHECK_INTERVAL_MS = 1000;
+    private static final Map<String, CachedWorkbook> CACHE = new ConcurrentHashMap<>();
+
+    private TestDataStore() {
+    }
+
+    // Returns the parsed sheet, or null if the workbook has no sheet with that name
+    public static SheetTable getSheet(String filePath, String sheetName) {
+        long now = System.currentTimeMillis();
+        CachedWorkbook workbook = CACHE.get(filePath);
+
+        if (workbook == null || now - workbook.checkedAt >= RECHECK_INTERVAL_MS) {
+            Path path = Paths.get(filePath);
+            long modified = lastModified(path);
+
+            // compute() serialises loading per file, so concurrent scenarios never parse the same workbook twice
+            workbook = CACHE.compute(filePath, (key, cached) ->
+                cached != null && cached.lastModified == modified ? cached : load(path, modified));
+            workbook.checkedAt = now;
+        }
+        return workbook.sheets.get(sheetName);
+    }
+
+    // Drops every cached workbook (the next lookup parses the file again)
+    public static void invalidateAll() {
+        CACHE.clear();
+    }
+
+    private static CachedWorkbook load(Path path, long modified) {
+        Map<String, SheetTable> compiled = CompiledTestData.readIfCurrent(path);
+        if (compiled != null) {
+            log.info("📗 Loaded " + compiled.size() + " sheet(s) from compiled " + CompiledTestData.resourceName(path));
+            return new CachedWorkbook(modified, compiled);
+        }
+
+        Map<String, SheetTable> sheets = parseWorkbook(path);
+        log.info("📗 Loaded " + sheets.size() + " sheet(s) from " + path.getFileName() + (STREAMING ? " (streaming)" : ""));
+        return new CachedWorkbook(modified, sheets);
+    }
+
+    // Parses every sheet of the workbook, streaming or with the POI usermodel depending on excelMode
+    static Map<String, SheetTable> parseWorkbook(Path path) {
+        return STREAMING ? new StreamingExcelReader().readAll(path.toString()) : parseWithUsermodel(path);
+    }
+
+    static Map<String, SheetTable> parseWithUsermodel(Path path) {
+        try (InputStream in = Files.newInputStream(path);
+             Workbook workbook = WorkbookFactory.create(in)) {
+
+            Map<String, SheetTable> sheets = new LinkedHashMap<>();
+            for (Sheet sheet : workbook) {
+                sheets.put(sheet.getSheetName(), toTable(sheet));
+            }
+            return sheets;
+
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading Excel file: " + path, e);
+        }
+    }
+
+    private static SheetTable toTable(Sheet sheet) {
+        List<String> headers = new ArrayList<>();
+        Row headerRow = sheet.getRow(0);
+        if (headerRow != null) {
+            for (int i = 0; i < headerRow.getLastCellNum(); i++) {
+                headers.add(ExcelReader.getCellValueAsString(headerRow.getCell(i)));
+            }
+        }
+
+        int lastRow = Math.max(sheet.getLastRowNum(), 0);
+        String[][] cells = new String[lastRow + 1][];
+        for (Row row : sheet) {
+            int width = Math.max(row.getLastCellNum(), 0);
+            String[] values = new String[width];
+            for (int i = 0; i < width; i++) {
+                values[i] = ExcelReader.getCellValueAsString(row.getCell(i));
+            }
+            cells[row.getRowNum()] = values;
+        }
+        return new SheetTable(sheet.getSheetName(), headers, cells);
+    }
+
+    private static long lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Excel file not found: " + path, e);
+        }
+    }
+
+    private static final class CachedWorkbook {
+        final long lastModified;
+        final Map<String, SheetTable> sheets;
+        volatile long checkedAt;
+
+        CachedWorkbook(long lastModified, Map<String, SheetTable> sheets) {
+            this.lastModified = lastModified;
+            this.sheets = sheets;
+        }
+    }
+}
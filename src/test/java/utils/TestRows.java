@@ -0,0 +1,119 @@
+package utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Typed rows of the Card.xlsx sheets used by the step definitions.
+ *
+ * Each sheet is bound once from TestDataStore and shared by all threads; when the store reloads a
+ * changed workbook the sheet is bound again on the next lookup. validateAll() binds every sheet up
+ * front so a broken sheet stops the run before any browser is started, and checks that the build
+ * compiled the test data: without it the @sheet outlines have no rows and the run would pass empty.
+ */
+public final class TestRows {
+    private static final Log log = Log.get(TestRows.class);
+
+    public static final String WORKBOOK = "src/test/resources/Card.xlsx";
+    public static final String BOOKING_SHEET = "flight_booking_details";
+    public static final String ENQUIRY_SHEET = "enquiry_module";
+    public static final String SEARCH_SHEET = "flight_search_details";
+    public static final String FEATURES = "features";
+
+    private static final Map<String, Bound> BOUND = new ConcurrentHashMap<>();
+
+    private TestRows() {
+    }
+
+    public static RowTable<BookingRow> booking() {
+        return bind(BOOKING_SHEET, BookingRow::bind);
+    }
+
+    public static RowTable<EnquiryRow> enquiry() {
+        return bind(ENQUIRY_SHEET, EnquiryRow::bind);
+    }
+
+    public static RowTable<SearchRow> search() {
+        return bind(SEARCH_SHEET, SearchRow::bind);
+    }
+
+    // Binds every sheet; throws IllegalStateException describing the first broken sheet or row, or missing build output
+    public static void validateAll() {
+        requireCompiledTestData();
+        log.info("📋 Test data bound: "
+            + BOOKING_SHEET + " " + booking().getRowNumbers().size() + " row(s), "
+            + ENQUIRY_SHEET + " " + enquiry().getRowNumbers().size() + " row(s), "
+            + SEARCH_SHEET + " " + search().getRowNumbers().size() + " row(s)");
+    }
+
+    /**
+     * Fails when process-test-classes has not run: the compiled workbook is not on the classpath, or
+     * the classpath features still have empty @sheet Examples (e.g. resources copied by an IDE).
+     */
+    private static void requireCompiledTestData() {
+        ClassLoader loader = TestRows.class.getClassLoader();
+        String data = CompiledTestData.resourceName(Paths.get(WORKBOOK));
+        if (loader.getResource(data) == null) {
+            throw new IllegalStateException(data + " is not on the classpath: build the test data first"
+                + " (mvn test, or mvn process-test-classes before running from an IDE)");
+        }
+        URL features = loader.getResource(FEATURES);
+        if (features == null) {
+            throw new IllegalStateException("No " + FEATURES + " directory on the classpath: run mvn process-test-classes");
+        }
+        if (!"file".equals(features.getProtocol())) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(Paths.get(features.toURI()))) {
+            for (Path feature : (Iterable<Path>) files.filter(f -> f.toString().endsWith(".feature"))::iterator) {
+                List<String> empty = TestDataCompiler.emptySheetExamples(
+                    new String(Files.readAllBytes(feature), StandardCharsets.UTF_8));
+                if (!empty.isEmpty()) {
+                    throw new IllegalStateException(feature + ": Examples for @sheet:" + String.join(", @sheet:", empty)
+                        + " have no rows, so those scenarios would not run: run mvn process-test-classes");
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> RowTable<T> bind(String sheetName, Function<SheetTable, RowTable<T>> binder) {
+        SheetTable sheet = TestDataStore.getSheet(WORKBOOK, sheetName);
+        if (sheet == null) {
+            throw new IllegalStateException("Sheet not found in " + WORKBOOK + ": " + sheetName);
+        }
+
+        Bound bound = BOUND.get(sheetName);
+        if (bound == null || bound.sheet != sheet) {
+            // Rebind only when TestDataStore handed out a different (reloaded) sheet
+            bound = BOUND.compute(sheetName, (key, current) ->
+                current != null && current.sheet == sheet ? current : new Bound(sheet, binder.apply(sheet)));
+        }
+        return (RowTable<T>) bound.table;
+    }
+
+    private static final class Bound {
+        final SheetTable sheet;
+        final RowTable<?> table;
+
+        Bound(SheetTable sheet, RowTable<?> table) {
+            this.sheet = sheet;
+            this.table = table;
+        }
+    }
+}
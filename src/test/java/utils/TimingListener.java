@@ -0,0 +1,110 @@
+package utils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.Set;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+/**
+ * WebDriver listener (see DriverFactory) that times every command sent through the driver.
+ *
+ * Each command is recorded under "command" (e.g. WebElement.click) and also under "page", keyed by
+ * the page-object method that issued it (e.g. FlightBookingPage.submitForm), so the page category
+ * shows how much WebDriver time each page-object method costs. Remote commands are also reported to
+ * CommandProfiler with their caller (page-object method, else step definition or hook).
+ */
+public class TimingListener implements WebDriverListener {
+
+    private static final String PAGE_PACKAGE = "pages.";
+    private static final String[] CALLER_PACKAGES = {PAGE_PACKAGE, "stepDefinitions.", "hooks."};
+    private static final StackWalker STACK = StackWalker.getInstance();
+
+    // Answered by the decorator itself (handles to sub-APIs, unwrapping), no round-trip to the browser.
+    // Keyed by declaring interface: Options.window() is local, TargetLocator.window(handle) is not.
+    private static final Set<String> LOCAL_METHODS = Set.of(
+        key(WebDriver.class, "manage"), key(WebDriver.class, "navigate"), key(WebDriver.class, "switchTo"),
+        key(WebDriver.Options.class, "timeouts"), key(WebDriver.Options.class, "window"),
+        key(WebDriver.Options.class, "logs"), key(WrapsDriver.class, "getWrappedDriver"),
+        key(WrapsElement.class, "getWrappedElement"), key(Object.class, "toString"), key(Object.class, "hashCode"),
+        key(Object.class, "equals"));
+
+    // Start times of the calls in flight on this thread (a call can return a proxy that is called next)
+    private final ThreadLocal<Deque<Long>> started = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        started.get().push(System.nanoTime());
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finish(method);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finish(method);
+    }
+
+    private void finish(Method method) {
+        Long start = started.get().poll();
+        if (start == null) {
+            return;
+        }
+        long nanos = System.nanoTime() - start;
+        Timings.record("command", method.getDeclaringClass().getSimpleName() + "." + method.getName(), nanos);
+        Optional<StackWalker.StackFrame> caller = caller();
+        caller.filter(frame -> frame.getClassName().startsWith(PAGE_PACKAGE))
+            .ifPresent(frame -> Timings.record("page", callerName(frame), nanos));
+        if (!isLocal(method)) {
+            CommandProfiler.record(caller.map(TimingListener::callerName).orElse("(framework)"), method.getName(), nanos);
+        }
+    }
+
+    static boolean isLocal(Method method) {
+        return LOCAL_METHODS.contains(key(method.getDeclaringClass(), method.getName()));
+    }
+
+    private static String key(Class<?> type, String method) {
+        return type.getName() + "." + method;
+    }
+
+    // Nearest page-object, step definition or hook frame on the calling stack; a page object is
+    // always nearer than the step that called it
+    private static Optional<StackWalker.StackFrame> caller() {
+        return STACK.walk(frames -> frames
+            .filter(frame -> isCallerPackage(frame.getClassName()))
+            .findFirst());
+    }
+
+    private static boolean isCallerPackage(String className) {
+        for (String prefix : CALLER_PACKAGES) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // pages.LoginPage#clickLogin -> "LoginPage.clickLogin"
+    private static String callerName(StackWalker.StackFrame frame) {
+        String className = frame.getClassName();
+        return className.substring(className.lastIndexOf('.') + 1) + "." + methodName(frame.getMethodName());
+    }
+
+    // lambda$submitForm$0 -> submitForm
+    private static String methodName(String frameMethod) {
+        if (frameMethod.startsWith("lambda$")) {
+            int end = frameMethod.indexOf('$', "lambda$".length());
+            return end > 0 ? frameMethod.substring("lambda$".length(), end) : frameMethod;
+        }
+        return frameMethod;
+    }
+}
@@ -0,0 +1,26 @@
+package utils;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+public class TimingListenerTest {
+
+    @Test
+    public void treatsHandlesToSubApisAsLocal() throws NoSuchMethodException {
+        assertTrue(TimingListener.isLocal(WebDriver.class.getMethod("manage")));
+        assertTrue(TimingListener.isLocal(WebDriver.class.getMethod("switchTo")));
+        assertTrue(TimingListener.isLocal(WebDriver.Options.class.getMethod("window")));
+        assertTrue(TimingListener.isLocal(Object.class.getMethod("toString")));
+    }
+
+    @Test
+    public void countsSwitchingWindowsAsARemoteCommand() throws NoSuchMethodException {
+        assertFalse(TimingListener.isLocal(WebDriver.TargetLocator.class.getMethod("window", String.class)));
+        assertFalse(TimingListener.isLocal(WebDriver.Window.class.getMethod("maximize")));
+        assertFalse(TimingListener.isLocal(WebElement.class.getMethod("click")));
+    }
+}
@@ -0,0 +1,148 @@
+package utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestSourceRead;
+import io.cucumber.plugin.event.TestStepFinished;
+import io.cucumber.plugin.event.TestStepStarted;
+
+/**
+ * Cucumber plugin that feeds scenario, step and hook durations into Timings and, when the run
+ * finishes, prints the p50/p95/p99 summary and writes the JSON report.
+ * Scenario durations are also folded into the shard balancing history (ScenarioDurations). A
+ * sharded run leaves the history alone, because every shard has to plan from the same copy; it
+ * writes its measurements to the shardDurationsFile system property instead, and ShardReportMerger
+ * folds them in. Dry runs record nothing.
+ * It also marks scenario and step boundaries for CommandProfiler. Cucumber delivers these events on
+ * the thread that runs the scenario, which is where the profiler keeps its per-scenario state.
+ *
+ * Register as "utils.TimingPlugin" (writes target/timings.json) or "utils.TimingPlugin:path/to/file.json".
+ */
+public class TimingPlugin implements ConcurrentEventListener {
+    private static final Log log = Log.get(TimingPlugin.class);
+
+    private static final int SUMMARY_ROWS = 10;
+
+    private final File output;
+    private final ScenarioDurations durations = new ScenarioDurations();
+    // Feature uri -> (line -> history key), from each feature's source as Cucumber reads it
+    private final Map<String, Map<Long, String>> durationKeys = new ConcurrentHashMap<>();
+
+    public TimingPlugin() {
+        this(new File("target/timings.json"));
+    }
+
+    public TimingPlugin(File output) {
+        this.output = output;
+    }
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestSourceRead.class, this::onSourceRead);
+        publisher.registerHandlerFor(TestCaseStarted.class, this::onTestCaseStarted);
+        publisher.registerHandlerFor(TestStepStarted.class, this::onStepStarted);
+        publisher.registerHandlerFor(TestStepFinished.class, this::onStepFinished);
+        publisher.registerHandlerFor(TestCaseFinished.class, this::onTestCaseFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, this::onRunFinished);
+    }
+
+    private void onTestCaseStarted(TestCaseStarted event) {
+        CommandProfiler.scenarioStarted(event.getTestCase().getName());
+    }
+
+    private void onSourceRead(TestSourceRead event) {
+        durationKeys.put(event.getUri().toString(), ScenarioDurations.keys(event.getUri().toString(), event.getSource()));
+    }
+
+    private void onStepStarted(TestStepStarted event) {
+        if (event.getTestStep() instanceof PickleStepTestStep) {
+            PickleStepTestStep step = (PickleStepTestStep) event.getTestStep();
+            CommandProfiler.stepStarted(step.getStep().getKeyword() + step.getStep().getText());
+        }
+    }
+
+    private void onStepFinished(TestStepFinished event) {
+        long nanos = event.getResult().getDuration().toNanos();
+        if (event.getTestStep() instanceof PickleStepTestStep) {
+            CommandProfiler.stepFinished();
+            Timings.record("step", ((PickleStepTestStep) event.getTestStep()).getPattern(), nanos);
+        } else if (event.getTestStep() instanceof HookTestStep) {
+            HookTestStep hook = (HookTestStep) event.getTestStep();
+            Timings.record("hook", hook.getHookType() + " " + shortLocation(hook.getCodeLocation()), nanos);
+        }
+    }
+
+    private void onTestCaseFinished(TestCaseFinished event) {
+        CommandProfiler.scenarioFinished();
+        Timings.record("scenario", event.getTestCase().getName(), event.getResult().getDuration().toNanos());
+
+        // Skipped, pending and undefined scenarios say nothing about how long a scenario really takes
+        Status status = event.getResult().getStatus();
+        if (status == Status.PASSED || status == Status.FAILED) {
+            String key = durationKeys.getOrDefault(event.getTestCase().getUri().toString(), Collections.emptyMap())
+                .get((long) event.getTestCase().getLocation().getLine());
+            if (key != null) {
+                durations.record(key, event.getResult().getDuration().toMillis());
+            }
+        }
+    }
+
+    private void onRunFinished(TestRunFinished event) {
+        // Keep the summary table from interleaving with queued log lines
+        Log.flush(5, TimeUnit.SECONDS);
+        Timings.printSummary(SUMMARY_ROWS);
+        try {
+            Timings.writeJson(output.toPath());
+            log.info("⏱️ Timings written to " + output.getPath());
+        } catch (IOException e) {
+            log.error("❌ Failed to write timings: " + e.getMessage());
+        }
+        saveDurations();
+    }
+
+    private void saveDurations() {
+        if (durations.isEmpty() || Boolean.parseBoolean(ConfigReader.get("cucumber.execution.dry-run", "false"))) {
+            return;
+        }
+        try {
+            String shardFile = System.getProperty("shardDurationsFile");
+            if (shardFile != null) {
+                durations.save(Paths.get(shardFile));
+                log.info("⏱️ Shard scenario durations written to " + shardFile);
+                return;
+            }
+            Path file = ScenarioDurations.defaultFile();
+            ScenarioDurations history = ScenarioDurations.load(file);
+            for (String key : durations.keys()) {
+                history.record(key, durations.get(key));
+            }
+            history.save(file);
+            log.info("⏱️ Scenario durations updated in " + file);
+        } catch (UncheckedIOException e) {
+            log.error("❌ Failed to update scenario durations: " + e.getMessage());
+        }
+    }
+
+    // hooks.Hooks.setUp(io.cucumber.java.Scenario) -> Hooks.setUp
+    private static String shortLocation(String codeLocation) {
+        String method = codeLocation.contains("(") ? codeLocation.substring(0, codeLocation.indexOf('(')) : codeLocation;
+        int classStart = method.lastIndexOf('.', method.lastIndexOf('.') - 1);
+        return classStart >= 0 ? method.substring(classStart + 1) : method;
+    }
+}
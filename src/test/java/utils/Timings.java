@@ -0,0 +1,124 @@
+package utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Run-wide latency registry: one LatencyHistogram per (category, name).
+ *
+ * Categories used by the suite:
+ *   scenario  whole scenario, by scenario name
+ *   step      Gherkin step, by step pattern (all Examples rows share one histogram)
+ *   hook      Before/After hooks, by method
+ *   page      WebDriver time spent inside a page-object method, e.g. LoginPage.enterUsername
+ *   command   single WebDriver command, e.g. WebElement.click
+ */
+public final class Timings {
+
+    private static final Map<String, Map<String, LatencyHistogram>> CATEGORIES = new ConcurrentHashMap<>();
+
+    private Timings() {
+    }
+
+    public static void record(String category, String name, long nanos) {
+        CATEGORIES.computeIfAbsent(category, c -> new ConcurrentHashMap<>())
+            .computeIfAbsent(name, n -> new LatencyHistogram())
+            .recordNanos(nanos);
+    }
+
+    public static LatencyHistogram get(String category, String name) {
+        Map<String, LatencyHistogram> histograms = CATEGORIES.get(category);
+        return histograms != null ? histograms.get(name) : null;
+    }
+
+    public static void reset() {
+        CATEGORIES.clear();
+    }
+
+    // Prints the 'limit' most expensive entries (by total time) of every category
+    public static void printSummary(int limit) {
+        System.out.println("⏱️ Timing summary (ms)");
+        for (String category : sortedCategories()) {
+            System.out.println(String.format("  %-10s %-58s %7s %9s %9s %9s %9s %10s",
+                category, "", "count", "p50", "p95", "p99", "max", "total"));
+            List<Map.Entry<String, LatencyHistogram>> entries = byTotalTime(CATEGORIES.get(category));
+            for (Map.Entry<String, LatencyHistogram> entry : entries.subList(0, Math.min(limit, entries.size()))) {
+                LatencyHistogram h = entry.getValue();
+                System.out.println(String.format("  %-10s %-58s %7d %9.1f %9.1f %9.1f %9.1f %10.1f",
+                    "", abbreviate(entry.getKey(), 58), h.getCount(),
+                    millis(h.percentileMicros(50)), millis(h.percentileMicros(95)), millis(h.percentileMicros(99)),
+                    millis(h.getMaxMicros()), millis(h.getTotalMicros())));
+            }
+        }
+    }
+
+    // Writes every histogram as {"category": {"name": {count, p50Ms, ...}}}
+    public static void writeJson(Path file) throws IOException {
+        StringBuilder json = new StringBuilder("{\n");
+        List<String> categories = sortedCategories();
+        for (int c = 0; c < categories.size(); c++) {
+            json.append("  ").append(quote(categories.get(c))).append(": {\n");
+            List<Map.Entry<String, LatencyHistogram>> entries = byTotalTime(CATEGORIES.get(categories.get(c)));
+            for (int e = 0; e < entries.size(); e++) {
+                LatencyHistogram h = entries.get(e).getValue();
+                json.append("    ").append(quote(entries.get(e).getKey())).append(": {")
+                    .append("\"count\": ").append(h.getCount())
+                    .append(", \"p50Ms\": ").append(millis(h.percentileMicros(50)))
+                    .append(", \"p95Ms\": ").append(millis(h.percentileMicros(95)))
+                    .append(", \"p99Ms\": ").append(millis(h.percentileMicros(99)))
+                    .append(", \"maxMs\": ").append(millis(h.getMaxMicros()))
+                    .append(", \"meanMs\": ").append(Math.round(h.getMeanMicros()) / 1000.0)
+                    .append(", \"totalMs\": ").append(millis(h.getTotalMicros()))
+                    .append(e < entries.size() - 1 ? "},\n" : "}\n");
+            }
+            json.append(c < categories.size() - 1 ? "  },\n" : "  }\n");
+        }
+        json.append("}\n");
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.write(file, json.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<String> sortedCategories() {
+        List<String> categories = new ArrayList<>(CATEGORIES.keySet());
+        categories.sort(null);
+        return categories;
+    }
+
+    private static List<Map.Entry<String, LatencyHistogram>> byTotalTime(Map<String, LatencyHistogram> histograms) {
+        List<Map.Entry<String, LatencyHistogram>> entries = new ArrayList<>(histograms.entrySet());
+        entries.sort(Comparator.comparingLong((Map.Entry<String, LatencyHistogram> e) -> e.getValue().getTotalMicros()).reversed());
+        return entries;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static String abbreviate(String text, int max) {
+        return text.length() <= max ? text : text.substring(0, max - 3) + "...";
+    }
+
+    private static String quote(String text) {
+        StringBuilder quoted = new StringBuilder("\"");
+        for (char ch : text.toCharArray()) {
+            if (ch == '"' || ch == '\\') {
+                quoted.append('\\').append(ch);
+            } else if (ch < 0x20) {
+                quoted.append(String.format("\\u%04x", (int) ch));
+            } else {
+                quoted.append(ch);
+            }
+        }
+        return quoted.append('"').toString();
+    }
+}
@@ -0,0 +1,37 @@
+package utils;
+
+import java.time.Duration;
+
+/**
+ * Central wait policy, read from config.properties.
+ *
+ * The implicit wait defaults to 0 so that a lookup for an element that is not there fails
+ * immediately instead of blocking for the full implicit timeout. Positive waits are explicit
+ * (see Waits), and "might be there" probes use the short, bounded presence timeout.
+ *
+ * Config keys: implicitWait (seconds), explicitWait (seconds), presenceTimeoutMillis
+ */
+public final class WaitPolicy {
+
+    private static final Duration IMPLICIT_WAIT = Duration.ofSeconds(ConfigReader.getInt("implicitWait", 0));
+    private static final Duration EXPLICIT_WAIT = Duration.ofSeconds(ConfigReader.getInt("explicitWait", 10));
+    private static final Duration PRESENCE_TIMEOUT = Duration.ofMillis(ConfigReader.getInt("presenceTimeoutMillis", 2000));
+
+    private WaitPolicy() {
+    }
+
+    // Implicit wait applied to every new driver (0 = lookups never block)
+    public static Duration implicitWait() {
+        return IMPLICIT_WAIT;
+    }
+
+    // Upper bound for waits on things that are expected to happen
+    public static Duration explicitWait() {
+        return EXPLICIT_WAIT;
+    }
+
+    // Upper bound for probes of elements that may legitimately never appear
+    public static Duration presenceTimeout() {
+        return PRESENCE_TIMEOUT;
+    }
+}
@@ -0,0 +1,144 @@
+package utils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.FluentWait;
+
+/**
+ * Event-driven waits with short polling, used instead of fixed Thread.sleep delays.
+ *
+ * The "until" methods throw TimeoutException when the condition never holds; the "for" methods
+ * return false instead, so page objects can keep their lenient true/false style.
+ * The "find" methods are for elements that may legitimately be absent: they never throw and
+ * never wait longer than the bound they are given (see WaitPolicy).
+ */
+public class Waits {
+
+    public static final Duration POLL_INTERVAL = Duration.ofMillis(50);
+    public static final Duration DOM_QUIET = Duration.ofMillis(150);
+
+    // Installs one MutationObserver per document and returns milliseconds since the last DOM change
+    private static final String DOM_IDLE_SCRIPT =
+        "var w = window;" +
+        "if (!w.__waitsDom) {" +
+        "  w.__waitsDom = { last: Date.now() };" +
+        "  new MutationObserver(function () { w.__waitsDom.last = Date.now(); })" +
+        "    .observe(document, { subtree: true, childList: true, attributes: true, characterData: true });" +
+        "}" +
+        "return Date.now() - w.__waitsDom.last;";
+
+    private final WebDriver driver;
+    private final Duration timeout;
+
+    public Waits(WebDriver driver) {
+        this(driver, WaitPolicy.explicitWait());
+    }
+
+    public Waits(WebDriver driver, Duration timeout) {
+        this.driver = driver;
+        this.timeout = timeout;
+    }
+
+    // Polls the condition until it returns a non-null, non-false value
+    public <T> T until(Function<WebDriver, T> condition) {
+        return until(condition, timeout);
+    }
+
+    public <T> T until(Function<WebDriver, T> condition, Duration limit) {
+        return new FluentWait<>(driver)
+            .withTimeout(limit)
+            .pollingEvery(POLL_INTERVAL)
+            .ignoring(NoSuchElementException.class)
+            .ignoring(StaleElementReferenceException.class)
+            .until(condition);
+    }
+
+    // Same as until(), but returns false on timeout
+    public boolean tryUntil(Function<WebDriver, ?> condition, Duration limit) {
+        try {
+            until(condition, limit);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    // --- URL conditions ---
+
+    public boolean forUrlChange(String fromUrl) {
+        return tryUntil(d -> !fromUrl.equals(d.getCurrentUrl()), timeout);
+    }
+
+    public boolean forUrlContains(String fragment) {
+        return tryUntil(ExpectedConditions.urlContains(fragment), timeout);
+    }
+
+    // --- Page conditions ---
+
+    public boolean forPageLoad() {
+        return tryUntil(d -> "complete".equals(js().executeScript("return document.readyState;")), timeout);
+    }
+
+    // --- DOM conditions ---
+
+    // No DOM mutations for the quiet period (validation messages, resets, re-renders have settled)
+    public boolean forDomQuiet() {
+        return forDomQuiet(DOM_QUIET);
+    }
+
+    public boolean forDomQuiet(Duration quiet) {
+        return tryUntil(d -> idleMillis(DOM_IDLE_SCRIPT) >= quiet.toMillis(), timeout);
+    }
+
+    // --- Element state conditions ---
+
+    public WebElement untilClickable(By locator) {
+        return until(ExpectedConditions.elementToBeClickable(locator));
+    }
+
+    public boolean forAttribute(By locator, String attribute, String value) {
+        return tryUntil(ExpectedConditions.attributeToBe(locator, attribute, value), timeout);
+    }
+
+    // --- Bounded presence checks (never throw) ---
+
+    // Immediate lookup: one findElements call, no waiting
+    public Optional<WebElement> find(By locator) {
+        List<WebElement> elements = driver.findElements(locator);
+        return elements.isEmpty() ? Optional.empty() : Optional.of(elements.get(0));
+    }
+
+    // Waits at most 'within' for the element to appear
+    public Optional<WebElement> find(By locator, Duration within) {
+        try {
+            return Optional.of(until(ExpectedConditions.presenceOfElementLocated(locator), within));
+        } catch (TimeoutException e) {
+            return Optional.empty();
+        }
+    }
+
+    // Waits at most 'within' for the element to be visible
+    public boolean isDisplayed(By locator, Duration within) {
+        return tryUntil(ExpectedConditions.visibilityOfElementLocated(locator), within);
+    }
+
+    private long idleMillis(String script) {
+        Object idle = js().executeScript(script);
+        return idle instanceof Number ? ((Number) idle).longValue() : -1;
+    }
+
+    private JavascriptExecutor js() {
+        return (JavascriptExecutor) driver;
+    }
+}
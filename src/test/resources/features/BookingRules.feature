@@ -0,0 +1,12 @@
+# Not in the default TestRunner tags: run with -Dcucumber.filter.tags=@BookingRules
+@BookingRules
+Feature: Flight Booking Rules
+
+# Browser-free oracle: every booking row is checked against utils.BookingRules, no browser is started
+Scenario Outline: Booking rules predict the expected message
+Then booking rules predict the expected message for row <rowIndex>
+
+# Rows are generated from the flight_booking_details sheet of Card.xlsx at build time (TestDataCompiler)
+@sheet:flight_booking_details
+Examples:
+| rowIndex | expectedMessage |
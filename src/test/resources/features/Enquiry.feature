@@ -6,12 +6,9 @@ Feature: Enquiry Form Validation
     When User submits enquiry with data from row <RowIndex>
     Then Validate all expected outcomes from row <RowIndex>
 
+    # Rows are generated from the enquiry_module sheet of Card.xlsx at build time (TestDataCompiler)
+    @sheet:enquiry_module
     Examples:
-      | RowIndex |
-	  | 1        |
-      | 2        |
-      | 3        | 
-      | 4        |
-      | 5        |
+      | RowIndex | ExpectedErrorField |
       
       
@@ -1,29 +1,36 @@
 @FlightBooking
 Feature: Flight Booking Input Validation
 
+# Guardrails: WebDriver commands, wall time and fixed sleeps per scenario and step (see utils.Budget)
+@budget(commands=150,stepCommands=120,ms=60000,sleeps=0)
 Scenario Outline: Validate booking inputs and error messages
-Given User is on Ticket Booking page
+Given booking row <rowIndex> needs UI confirmation
+And User is on Ticket Booking page
 When User enters booking details from row <rowIndex>
 And clicks on Book Now
 Then Validate email and date for row <rowIndex>
 And Validate expected message for row <rowIndex>
 
+# Rows are generated from the flight_booking_details sheet of Card.xlsx at build time (TestDataCompiler)
+# What each sheet row tests (update this list when rows are added to Card.xlsx):
+#   1:  Valid
+#   2:  Invalid date
+#   3:  Invalid email
+#   4:  Empty email
+#   5:  Empty dropdown
+#   6:  Empty travel from
+#   7:  Empty travel to
+#   8:  Empty name
+#   9:  Empty date
+#   10: Empty phone
+#   11: Empty passengers count
+#   12: Wrong name
+#   13: All empty fields
+@sheet:flight_booking_details
 Examples:
-| rowIndex |
-| 1        | # Valid 
-| 2        | # Invalid date
-| 3        | # Invalid email
-| 4        | # Empty email
-| 5        | # Empty dropdown
-| 6        | # Empty travel from
-| 7        | # Empty travel to
-| 8        | # Empty name
-| 9        | # Empty date
-| 10       | # Empty phone
-| 11       | # Empty passengers count
-| 12       | # Wrong name
-| 13       | # All empty fields
+| rowIndex | expectedMessage |
 
+@budget(commands=40,stepCommands=20,ms=30000,sleeps=0)
 Scenario: Validate reset button functionality
 Given User is on Ticket Booking page
 When User enters booking details from row 1
@@ -6,10 +6,7 @@ Scenario Outline: Validate flight search results
   When User searches for flight using row <rowIndex>
   Then Validate search result for row <rowIndex>
 
+# Rows are generated from the flight_search_details sheet of Card.xlsx at build time (TestDataCompiler)
+@sheet:flight_search_details
 Examples:
-  | rowIndex |
-  | 1        |
-  | 2        |
-  | 3        |
-  | 4        |
-  | 5        |
+  | rowIndex | searchType | inputValue |
@@ -1,6 +1,7 @@
 @UserLogin
 Feature: Login Feature
 
+  @budget(commands=60,stepCommands=25,ms=30000,sleeps=0)
   Scenario Outline: Login with various credentials
     Given User is on Login page
     When User enters "<username>" and "<password>"
@@ -14,7 +15,8 @@ Feature: Login Feature
       |             | test123     | Username cannot be empty  |
       | flightadmin |             | Password cannot be empty  |
 
+  @budget(commands=40,stepCommands=15,ms=30000,sleeps=0)
   Scenario: Validate forgot password link functionality
     Given User is on Login page
     When User clicks on "Click here to reset it" link
-    Then User should be redirected to password reset page
\ No newline at end of file
+    Then User should be redirected to password reset page
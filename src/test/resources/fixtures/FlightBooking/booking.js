@@ -0,0 +1,68 @@
+// Approximation of the live ticket booking behaviour, written by hand from its messages. Like the
+// live page it does not check that the name contains only letters, so that data row keeps failing offline.
+(function () {
+  function $(id) { return document.getElementById(id); }
+  function value(id) { return $(id).value.trim(); }
+
+  function isFutureDate(text) {
+    var parts = /^(\d{2})\/(\d{2})\/(\d{4})$/.exec(text);
+    if (!parts) { return false; }
+    var date = new Date(+parts[3], +parts[2] - 1, +parts[1]);
+    if (date.getDate() !== +parts[1] || date.getMonth() !== +parts[2] - 1) { return false; }
+    var today = new Date();
+    today.setHours(0, 0, 0, 0);
+    return date > today;
+  }
+
+  function validate() {
+    var errors = [];
+    if (!value('travelFrom')) { errors.push("Travel From can't be blank"); }
+    if (!value('travelTo')) { errors.push("Travel To can't be blank"); }
+    if (!value('departure')) { errors.push("Departure can't be blank"); }
+    else if (!isFutureDate(value('departure'))) { errors.push('Invalid Date'); }
+    if (!$('selectclass').value) { errors.push("DropDown can't be blank"); }
+    if (!value('name')) { errors.push("Name can't be blank"); }
+    if (!value('email')) { errors.push("Email can't be blank"); }
+    else if (!/^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\.[A-Za-z]{2,6}$/.test(value('email'))) { errors.push('Invalid Email'); }
+    if (!value('phone')) { errors.push("Phone Number can't be blank"); }
+    if (value('ticket-class-count') === '0') { errors.push("Number of Passengers can't be Zero"); }
+    return errors;
+  }
+
+  function hideResult() {
+    $('bookingconfirm').className = 'hidden';
+    $('ttab').className = 'hidden';
+    $('ttab-body').innerHTML = '';
+  }
+
+  function cell(text) {
+    var td = document.createElement('td');
+    td.textContent = text;
+    return td;
+  }
+
+  $('book-now').addEventListener('click', function () {
+    var errors = validate();
+    hideResult();
+    $('errfn').innerHTML = errors.join('<br>');
+    if (errors.length) { return; }
+
+    var row = document.createElement('tr');
+    ['travelFrom', 'travelTo', 'departure'].forEach(function (id) { row.appendChild(cell(value(id))); });
+    var select = $('selectclass');
+    row.appendChild(cell(select.options[select.selectedIndex].text));
+    row.appendChild(cell(value('name')));
+    row.appendChild(cell(value('ticket-class-count') || '1'));
+    $('ttab-body').appendChild(row);
+
+    $('bookingconfirm').textContent = 'Your flight Reservation has been Confirmed !';
+    $('bookingconfirm').className = '';
+    $('ttab').className = '';
+  });
+
+  $('reset-now').addEventListener('click', function () {
+    $('booking-form').reset();
+    $('errfn').innerHTML = '';
+    hideResult();
+  });
+})();
@@ -0,0 +1,24 @@
+// Approximation of the live enquiry form behaviour, written by hand. Like the live page it accepts
+// any phone number, so the phone data row keeps failing offline.
+(function () {
+  function $(id) { return document.getElementById(id); }
+
+  $('submit').addEventListener('click', function () {
+    var name = $('name').value.trim(), email = $('email').value.trim(), message = $('message').value.trim();
+    var nameError = name.length < 3 ? 'Your name should be at least 3 characters long.' : '';
+    var emailError = /^[^\s@]+@[^\s@]+\.[^\s@]+$/.test(email) ? '' : 'Please enter a valid email address.';
+    var messageError = message.length < 20 ? 'Please write a longer message.' : '';
+
+    $('nameError').textContent = nameError;
+    $('emailError').textContent = emailError;
+    $('messageError').textContent = messageError;
+
+    if (nameError || emailError || messageError) {
+      $('success-msg').className = 'hidden';
+      return;
+    }
+    $('success-msg').textContent = 'THANK YOU! WE WILL GET BACK TO YOU AS SOON AS POSSIBLE.';
+    $('success-msg').className = '';
+    $('enquiry-form').reset();
+  });
+})();
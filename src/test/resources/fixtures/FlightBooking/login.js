@@ -0,0 +1,45 @@
+// Approximation of the live login behaviour: captcha check, credential check, redirect to index.html.
+// Like the live login it stores no session (no cookie or storage).
+(function () {
+  var USERNAME = 'flightadmin', PASSWORD = 'flightadmin';
+  var captchaVerified = false;
+
+  function $(id) { return document.getElementById(id); }
+
+  function newCaptcha() {
+    var chars = 'ABCDEFGHJKLMNPQRSTUVWXYZ23456789', code = '';
+    for (var i = 0; i < 6; i++) { code += chars.charAt(Math.floor(Math.random() * chars.length)); }
+    $('code').textContent = code;
+    captchaVerified = false;
+  }
+
+  $('captchaBtn').addEventListener('click', function () {
+    captchaVerified = $('captcha').value === $('code').textContent;
+    alert(captchaVerified ? 'Captcha Verified' : 'Invalid Captcha');
+    if (!captchaVerified) { newCaptcha(); }
+  });
+
+  $('login-submit').addEventListener('click', function () {
+    var username = $('username').value, password = $('password').value;
+    var usernameErr = '', passwordErr = '';
+
+    if (!username) { usernameErr = 'Username cannot be empty'; }
+    else if (username !== USERNAME) { usernameErr = 'Username is wrong'; }
+    if (!password) { passwordErr = 'Password cannot be empty'; }
+    else if (password !== PASSWORD) { passwordErr = 'Password is wrong'; }
+
+    $('usernameErr').textContent = usernameErr;
+    $('passwordErr').textContent = passwordErr;
+
+    if (usernameErr || passwordErr) {
+      alert('Invalid Credentials');
+    } else if (!captchaVerified) {
+      alert('Please verify the captcha');
+    } else {
+      alert('Login Successful');
+      window.location.href = 'index.html';
+    }
+  });
+
+  newCaptcha();
+})();
@@ -0,0 +1,23 @@
+// Approximation of the live flight search filter: each box filters its own column, case-insensitive
+(function () {
+  var filters = [['myInputnumber', 0], ['myInputname', 1], ['myInputtype', 2]];
+
+  function filterTable() {
+    var rows = document.getElementById('myTable').tBodies[0].rows, shown = 0;
+    for (var r = 0; r < rows.length; r++) {
+      var match = true;
+      for (var f = 0; f < filters.length; f++) {
+        var term = document.getElementById(filters[f][0]).value.trim().toUpperCase();
+        var text = rows[r].cells[filters[f][1]].textContent.toUpperCase();
+        if (term && text.indexOf(term) < 0) { match = false; }
+      }
+      rows[r].style.display = match ? '' : 'none';
+      if (match) { shown++; }
+    }
+    document.getElementById('noFlights').className = shown ? 'hidden' : '';
+  }
+
+  for (var f = 0; f < filters.length; f++) {
+    document.getElementById(filters[f][0]).addEventListener('keyup', filterTable);
+  }
+})();